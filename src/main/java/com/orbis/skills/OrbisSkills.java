@@ -1,16 +1,24 @@
 package com.orbis.skills;
 
+import com.orbis.skills.abilities.BlockBreakScheduler;
+import com.orbis.skills.abilities.DamageOverTimeEngine;
 import com.orbis.skills.commands.AdminCommand;
 import com.orbis.skills.commands.SkillsCommand;
 import com.orbis.skills.config.ConfigManager;
 import com.orbis.skills.data.DataManager;
+import com.orbis.skills.data.GlobalRankings;
+import com.orbis.skills.data.LeaderboardManager;
+import com.orbis.skills.data.PlacedBlockTracker;
+import com.orbis.skills.data.PlayerStateService;
 import com.orbis.skills.data.Storage;
 import com.orbis.skills.data.YamlStorage;
 import com.orbis.skills.data.SQLStorage;
 import com.orbis.skills.listeners.AbilityListeners;
 import com.orbis.skills.listeners.CustomSkillListeners;
+import com.orbis.skills.listeners.PlacedBlockListeners;
 import com.orbis.skills.listeners.SkillExpListeners;
 import com.orbis.skills.skills.CustomSkillManager;
+import com.orbis.skills.skills.MultiplierService;
 import com.orbis.skills.skills.SkillManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -19,8 +27,16 @@ public class OrbisSkills extends JavaPlugin {
     private static OrbisSkills instance;
     private ConfigManager configManager;
     private DataManager dataManager;
+    private GlobalRankings globalRankings;
+    private LeaderboardManager leaderboardManager;
     private SkillManager skillManager;
+    private MultiplierService multiplierService;
     private CustomSkillManager customSkillManager;
+    private CustomSkillListeners customSkillListeners;
+    private PlacedBlockTracker placedBlockTracker;
+    private PlayerStateService playerStateService;
+    private DamageOverTimeEngine damageOverTimeEngine;
+    private BlockBreakScheduler blockBreakScheduler;
     private Storage storage;
 
     @Override
@@ -62,8 +78,12 @@ public class OrbisSkills extends JavaPlugin {
             storage = new YamlStorage(this);
         }
 
-        dataManager = new DataManager(this, storage);
-        dataManager.initialize();
+        playerStateService = new PlayerStateService(this);
+        playerStateService.start();
+        damageOverTimeEngine = new DamageOverTimeEngine(this);
+        damageOverTimeEngine.start();
+        blockBreakScheduler = new BlockBreakScheduler(this);
+        blockBreakScheduler.start();
 
         skillManager = new SkillManager(this);
         skillManager.registerSkills();
@@ -72,12 +92,31 @@ public class OrbisSkills extends JavaPlugin {
 
         customSkillManager = new CustomSkillManager(this);
         customSkillManager.loadCustomSkills();
+        skillManager.buildExpSources();
+
+        multiplierService = new MultiplierService(this);
+        multiplierService.initialize();
+
+       
+
+        globalRankings = new GlobalRankings(this, storage);
+        dataManager = new DataManager(this, storage);
+        dataManager.initialize();
+        globalRankings.initialize();
+
+        leaderboardManager = new LeaderboardManager(this);
+        leaderboardManager.initialize();
 
        
 
         getServer().getPluginManager().registerEvents(new SkillExpListeners(this), this);
         getServer().getPluginManager().registerEvents(new AbilityListeners(this), this);
-        getServer().getPluginManager().registerEvents(new CustomSkillListeners(this), this);
+        customSkillListeners = new CustomSkillListeners(this);
+        customSkillListeners.register();
+
+        placedBlockTracker = new PlacedBlockTracker(this);
+        placedBlockTracker.initialize();
+        getServer().getPluginManager().registerEvents(new PlacedBlockListeners(this), this);
 
        
 
@@ -91,12 +130,32 @@ public class OrbisSkills extends JavaPlugin {
     public void onDisable() {
        
 
+        if (blockBreakScheduler != null) {
+            blockBreakScheduler.cancelAll();
+        }
+
+        if (skillManager != null) {
+            skillManager.getExperienceBuffer().flush();
+        }
+
         if (dataManager != null) {
             dataManager.saveAllData();
         }
 
        
 
+        if (globalRankings != null) {
+            globalRankings.shutdown();
+        }
+
+        if (multiplierService != null) {
+            multiplierService.shutdown();
+        }
+
+        if (placedBlockTracker != null) {
+            placedBlockTracker.saveAll();
+        }
+
         if (storage != null) {
             storage.close();
         }
@@ -124,6 +183,18 @@ public class OrbisSkills extends JavaPlugin {
 
     
 
+    public LeaderboardManager getLeaderboardManager() {
+        return leaderboardManager;
+    }
+
+    
+
+    public GlobalRankings getGlobalRankings() {
+        return globalRankings;
+    }
+
+    
+
     public SkillManager getSkillManager() {
         return skillManager;
     }
@@ -136,6 +207,42 @@ public class OrbisSkills extends JavaPlugin {
 
     
 
+    public CustomSkillListeners getCustomSkillListeners() {
+        return customSkillListeners;
+    }
+
+    
+
+    public PlacedBlockTracker getPlacedBlockTracker() {
+        return placedBlockTracker;
+    }
+
+    
+
+    public PlayerStateService getPlayerStateService() {
+        return playerStateService;
+    }
+
+    
+
+    public DamageOverTimeEngine getDamageOverTimeEngine() {
+        return damageOverTimeEngine;
+    }
+
+    
+
+    public BlockBreakScheduler getBlockBreakScheduler() {
+        return blockBreakScheduler;
+    }
+
+    
+
+    public MultiplierService getMultiplierService() {
+        return multiplierService;
+    }
+
+    
+
     public Storage getStorage() {
         return storage;
     }
@@ -1,110 +1,164 @@
-package com.orbis.skills;
-
-import com.orbis.skills.data.PlayerData;
-import com.orbis.skills.skills.Skill;
-import me.clip.placeholderapi.expansion.PlaceholderExpansion;
-import org.bukkit.entity.Player;
-import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-
-public class OrbisSkillsPlaceholderExpansion extends PlaceholderExpansion {
-
-    private final OrbisSkills plugin;
-
-    public OrbisSkillsPlaceholderExpansion(OrbisSkills plugin) {
-        this.plugin = plugin;
-    }
-
-    @Override
-    public @NotNull String getIdentifier() {
-        return "orbisskills";
-    }
-
-    @Override
-    public @NotNull String getAuthor() {
-        return plugin.getDescription().getAuthors().toString();
-    }
-
-    @Override
-    public @NotNull String getVersion() {
-        return plugin.getDescription().getVersion();
-    }
-
-    @Override
-    public boolean persist() {
-        return true;
-
-    }
-
-    @Override
-    public @Nullable String onPlaceholderRequest(Player player, @NotNull String identifier) {
-        if (player == null) {
-            return "";
-        }
-
-        PlayerData playerData = plugin.getDataManager().getPlayerData(player.getUniqueId());
-        if (playerData == null) {
-            return "0";
-        }
-
-       
-
-        if (identifier.equals("total_level")) {
-            return String.valueOf(playerData.getTotalLevel());
-        }
-
-       
-
-        String[] parts = identifier.split("_");
-
-        if (parts.length == 2) {
-            String skillName = parts[0].toLowerCase();
-            String attribute = parts[1].toLowerCase();
-
-            Skill skill = plugin.getSkillManager().getSkill(skillName);
-            if (skill == null) {
-                return "0";
-            }
-
-            switch (attribute) {
-                case "level":
-                    return String.valueOf(playerData.getSkillLevel(skillName));
-                case "exp":
-                    return String.valueOf(playerData.getSkillExp(skillName));
-                case "exptolevel":
-                    return String.valueOf(playerData.getExpToNextLevel(skillName));
-                case "progress":
-                    return String.format("%.1f", playerData.getLevelProgress(skillName) * 100) + "%";
-                case "rank":
-                    return playerData.getSkillRank(skillName);
-                default:
-                    return "0";
-            }
-        }
-
-       
-
-        if (parts.length == 3 && parts[1].equals("ability")) {
-            String skillName = parts[0].toLowerCase();
-            String abilityName = parts[2].toLowerCase();
-
-           
-
-            Skill skill = plugin.getSkillManager().getSkill(skillName);
-            if (skill == null) {
-                return "0";
-            }
-
-           
-
-            if (skill.hasAbility(abilityName)) {
-                return skill.getAbilityInfo(player, abilityName);
-            }
-
-            return "0";
-        }
-
-        return null;
-
-    }
+package com.orbis.skills;
+
+import com.orbis.skills.data.PlayerDataSnapshot;
+import com.orbis.skills.skills.Skill;
+import com.orbis.skills.util.RankedIndex;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class OrbisSkillsPlaceholderExpansion extends PlaceholderExpansion {
+
+    private final OrbisSkills plugin;
+
+    public OrbisSkillsPlaceholderExpansion(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull String getIdentifier() {
+        return "orbisskills";
+    }
+
+    @Override
+    public @NotNull String getAuthor() {
+        return plugin.getDescription().getAuthors().toString();
+    }
+
+    @Override
+    public @NotNull String getVersion() {
+        return plugin.getDescription().getVersion();
+    }
+
+    @Override
+    public boolean persist() {
+        return true;
+
+    }
+
+    @Override
+    public @Nullable String onRequest(OfflinePlayer player, @NotNull String identifier) {
+       
+
+        if (identifier.startsWith("top_")) {
+            return getTopPlaceholder(identifier);
+        }
+
+        if (player == null) {
+            return "";
+        }
+
+       
+
+        PlayerDataSnapshot playerData = plugin.getDataManager().getSnapshot(player.getUniqueId());
+        if (playerData == null) {
+           
+
+            if (!player.isOnline()) {
+                plugin.getDataManager().loadOfflinePlayerData(player.getUniqueId());
+            }
+            return "0";
+        }
+
+       
+
+        if (identifier.equals("total_level")) {
+            return String.valueOf(playerData.getTotalLevel());
+        }
+
+        if (identifier.equals("total_position")) {
+            return String.valueOf(plugin.getLeaderboardManager().getIndex("total").getPosition(player.getUniqueId()));
+        }
+
+       
+
+        String[] parts = identifier.split("_");
+
+        if (parts.length == 2) {
+            String skillName = parts[0].toLowerCase();
+            String attribute = parts[1].toLowerCase();
+
+            Skill skill = plugin.getSkillManager().getSkill(skillName);
+            if (skill == null) {
+                return "0";
+            }
+
+            switch (attribute) {
+                case "level":
+                    return String.valueOf(playerData.getSkillLevel(skillName));
+                case "exp":
+                    return String.valueOf(playerData.getSkillExp(skillName));
+                case "exptolevel":
+                    return String.valueOf(playerData.getExpToNextLevel(skillName));
+                case "progress":
+                    return String.format("%.1f", playerData.getLevelProgress(skillName) * 100) + "%";
+                case "rank":
+                    return playerData.getSkillRank(skillName);
+                case "position":
+                    RankedIndex index = plugin.getLeaderboardManager().getIndex(skillName);
+                    return String.valueOf(index != null ? index.getPosition(player.getUniqueId()) : 0);
+                default:
+                    return "0";
+            }
+        }
+
+       
+
+        if (parts.length == 3 && parts[1].equals("ability")) {
+            String skillName = parts[0].toLowerCase();
+            String abilityName = parts[2].toLowerCase();
+
+           
+
+            Skill skill = plugin.getSkillManager().getSkill(skillName);
+            if (skill == null) {
+                return "0";
+            }
+
+           
+
+            Player onlinePlayer = player.getPlayer();
+            if (onlinePlayer != null && skill.hasAbility(abilityName)) {
+                return skill.getAbilityInfo(onlinePlayer, abilityName);
+            }
+
+            return "0";
+        }
+
+        return null;
+
+    }
+
+    
+
+    private String getTopPlaceholder(String identifier) {
+        String[] parts = identifier.split("_");
+        if (parts.length != 4) {
+            return null;
+        }
+
+        RankedIndex index = plugin.getLeaderboardManager().getIndex(parts[1].toLowerCase());
+        if (index == null) {
+            return null;
+        }
+
+        int position;
+        try {
+            position = Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        RankedIndex.Entry entry = index.get(position);
+        switch (parts[3].toLowerCase()) {
+            case "name":
+                return entry != null ? plugin.getLeaderboardManager().getName(entry.getUuid()) : "";
+            case "level":
+                return entry != null ? String.valueOf(entry.getPrimary()) : "0";
+            default:
+                return null;
+        }
+    }
 }
\ No newline at end of file
@@ -1,151 +1,237 @@
-package com.orbis.skills.abilities;
-
-import com.orbis.skills.OrbisSkills;
-import com.orbis.skills.events.AbilityUseEvent;
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
-public class Ability {
-
-    private final String name;
-    private final int unlockLevel;
-    private final String description;
-    private final Map<Integer, Double> levelEffects;
-    private final Map<UUID, Long> cooldowns;
-
-    
-
-    public Ability(String name, int unlockLevel, String description) {
-        this.name = name;
-        this.unlockLevel = unlockLevel;
-        this.description = description;
-        this.levelEffects = new HashMap<>();
-        this.cooldowns = new ConcurrentHashMap<>();
-
-       
-
-        for (int i = unlockLevel; i <= 100; i += 10) {
-            levelEffects.put(i, (double) (i - unlockLevel + 10) / 100);
-        }
-    }
-
-    
-
-    public String getName() {
-        return name;
-    }
-
-    
-
-    public int getUnlockLevel() {
-        return unlockLevel;
-    }
-
-    
-
-    public String getDescription() {
-        return description;
-    }
-
-    
-
-    public double getEffectForLevel(int level) {
-       
-
-        int closestLevel = unlockLevel;
-        for (int definedLevel : levelEffects.keySet()) {
-            if (definedLevel <= level && definedLevel > closestLevel) {
-                closestLevel = definedLevel;
-            }
-        }
-
-        return levelEffects.getOrDefault(closestLevel, 0.0);
-    }
-
-    
-
-    public String getInfoForLevel(int level) {
-        if (level < unlockLevel) {
-            return "Locked (Unlocks at level " + unlockLevel + ")";
-        }
-
-        double effect = getEffectForLevel(level);
-        return String.format("%.1f%%", effect * 100);
-    }
-
-    
-
-    public void setLevelEffect(int level, double value) {
-        levelEffects.put(level, value);
-    }
-
-    
-
-    public boolean canUse(Player player, OrbisSkills plugin) {
-        UUID uuid = player.getUniqueId();
-
-       
-
-        if (cooldowns.containsKey(uuid)) {
-            long cooldownTime = cooldowns.get(uuid);
-            if (System.currentTimeMillis() < cooldownTime) {
-                return false;
-            }
-        }
-
-       
-
-        int playerLevel = plugin.getDataManager().getPlayerData(uuid).getSkillLevel(getName());
-        return playerLevel >= unlockLevel;
-    }
-
-    
-
-    public boolean trigger(Player player, OrbisSkills plugin, int cooldownSeconds) {
-        if (!canUse(player, plugin)) {
-            return false;
-        }
-
-       
-
-        AbilityUseEvent event = new AbilityUseEvent(player, this);
-        Bukkit.getPluginManager().callEvent(event);
-
-        if (event.isCancelled()) {
-            return false;
-        }
-
-       
-
-        if (cooldownSeconds > 0) {
-            cooldowns.put(player.getUniqueId(),
-                    System.currentTimeMillis() + (cooldownSeconds * 1000L));
-        }
-
-        return true;
-    }
-
-    
-
-    public int getRemainingCooldown(Player player) {
-        UUID uuid = player.getUniqueId();
-        if (!cooldowns.containsKey(uuid)) {
-            return 0;
-        }
-
-        long cooldownTime = cooldowns.get(uuid);
-        long remainingMillis = cooldownTime - System.currentTimeMillis();
-
-        if (remainingMillis <= 0) {
-            cooldowns.remove(uuid);
-            return 0;
-        }
-
-        return (int) (remainingMillis / 1000);
-    }
+package com.orbis.skills.abilities;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.data.PlayerData;
+import com.orbis.skills.data.PlayerStateService;
+import com.orbis.skills.events.AbilityUseEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+public class Ability {
+
+    private final String name;
+    private final int unlockLevel;
+    private final String description;
+    private final NavigableMap<Integer, Double> levelEffects;
+    private int cooldownSlot = -1;
+    private int skillId = -1;
+    private Interpolation interpolation = Interpolation.STEP;
+    private int maxLevel = 100;
+    private volatile double[] effects;
+
+    
+
+    public Ability(String name, int unlockLevel, String description) {
+        this.name = name;
+        this.unlockLevel = unlockLevel;
+        this.description = description;
+        this.levelEffects = new TreeMap<>();
+
+       
+
+        for (int i = unlockLevel; i <= 100; i += 10) {
+            levelEffects.put(i, (double) (i - unlockLevel + 10) / 100);
+        }
+    }
+
+    
+
+    public String getName() {
+        return name;
+    }
+
+    
+
+    public int getUnlockLevel() {
+        return unlockLevel;
+    }
+
+    
+
+    public int getSkillId() {
+        return skillId;
+    }
+
+    
+
+    public void setSkillId(int skillId) {
+        this.skillId = skillId;
+    }
+
+    
+
+    public String getDescription() {
+        return description;
+    }
+
+    
+
+    public double getEffectForLevel(int level) {
+        double[] compiled = effects;
+        if (compiled == null) {
+            compiled = compileEffects(maxLevel);
+        }
+
+       
+
+        return compiled[Math.max(0, Math.min(level, compiled.length - 1))];
+    }
+
+    
+
+    public String getInfoForLevel(int level) {
+        if (level < unlockLevel) {
+            return "Locked (Unlocks at level " + unlockLevel + ")";
+        }
+
+        double effect = getEffectForLevel(level);
+        return String.format("%.1f%%", effect * 100);
+    }
+
+    
+
+    public void setLevelEffect(int level, double value) {
+        levelEffects.put(level, value);
+        effects = null;
+    }
+
+    
+
+    public void setLevelEffects(Map<Integer, Double> levelEffects) {
+        this.levelEffects.clear();
+        this.levelEffects.putAll(levelEffects);
+        effects = null;
+    }
+
+    
+
+    public void setInterpolation(Interpolation interpolation) {
+        this.interpolation = interpolation;
+        effects = null;
+    }
+
+    
+
+    public Interpolation getInterpolation() {
+        return interpolation;
+    }
+
+    
+
+    public double[] compileEffects(int maxLevel) {
+        this.maxLevel = maxLevel;
+
+       
+
+        NavigableMap<Integer, Double> points = levelEffects.tailMap(unlockLevel, true);
+        double base = levelEffects.getOrDefault(unlockLevel, 0.0);
+        int length = Math.max(maxLevel, points.isEmpty() ? 0 : points.lastKey()) + 1;
+
+        double[] compiled = new double[length];
+        for (int level = 0; level < length; level++) {
+            Map.Entry<Integer, Double> floor = points.floorEntry(level);
+            if (floor == null) {
+                compiled[level] = base;
+                continue;
+            }
+
+            Map.Entry<Integer, Double> ceiling = points.higherEntry(level);
+            if (interpolation == Interpolation.LINEAR && ceiling != null) {
+                double progress = (double) (level - floor.getKey()) / (ceiling.getKey() - floor.getKey());
+                compiled[level] = floor.getValue() + (ceiling.getValue() - floor.getValue()) * progress;
+            } else {
+                compiled[level] = floor.getValue();
+            }
+        }
+
+        effects = compiled;
+        return compiled;
+    }
+
+    
+
+    public boolean canUse(Player player, OrbisSkills plugin) {
+        UUID uuid = player.getUniqueId();
+
+       
+
+        if (isOnCooldown(uuid, plugin.getPlayerStateService())) {
+            return false;
+        }
+
+       
+
+        PlayerData data = plugin.getDataManager().getPlayerData(uuid);
+        if (data == null || skillId < 0) {
+            return false;
+        }
+
+        int playerLevel = data.getSkillLevel(skillId);
+        return playerLevel >= unlockLevel;
+    }
+
+    
+
+    public boolean trigger(Player player, OrbisSkills plugin, int cooldownSeconds) {
+        return canUse(player, plugin) && activate(player, plugin, cooldownSeconds);
+    }
+
+       
+
+    public boolean activate(Player player, OrbisSkills plugin, int cooldownSeconds) {
+        AbilityUseEvent event = new AbilityUseEvent(player, this);
+        Bukkit.getPluginManager().callEvent(event);
+
+        if (event.isCancelled()) {
+            return false;
+        }
+
+       
+
+        if (cooldownSeconds > 0) {
+            PlayerStateService states = plugin.getPlayerStateService();
+            states.set(player.getUniqueId(), getCooldownSlot(states), cooldownSeconds * 1000L);
+        }
+
+        return true;
+    }
+
+    
+
+    public boolean isOnCooldown(UUID uuid, PlayerStateService states) {
+        return states.isActive(uuid, getCooldownSlot(states));
+    }
+
+    
+
+    public int getRemainingCooldown(Player player) {
+        PlayerStateService states = OrbisSkills.getInstance().getPlayerStateService();
+        long remainingMillis = states.getRemaining(player.getUniqueId(), getCooldownSlot(states));
+        return (int) (remainingMillis / 1000);
+    }
+
+    
+
+    private int getCooldownSlot(PlayerStateService states) {
+        if (cooldownSlot < 0) {
+            cooldownSlot = states.slot(name);
+        }
+        return cooldownSlot;
+    }
+
+    
+
+    public enum Interpolation {
+       
+
+        STEP,
+       
+
+        LINEAR
+    }
 }
\ No newline at end of file
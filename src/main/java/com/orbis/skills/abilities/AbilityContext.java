@@ -0,0 +1,60 @@
+package com.orbis.skills.abilities;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.data.PlayerStateService;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+
+
+public final class AbilityContext {
+
+    private final OrbisSkills plugin;
+    private final Player player;
+    private final UUID uuid;
+    private final int level;
+    private final PlayerStateService states;
+
+    public AbilityContext(OrbisSkills plugin, Player player, int level) {
+        this.plugin = plugin;
+        this.player = player;
+        this.uuid = player.getUniqueId();
+        this.level = level;
+        this.states = plugin.getPlayerStateService();
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    
+
+    public boolean isUnlocked(AbilityHandle<?> handle) {
+        Ability ability = handle.get();
+        return ability != null && level >= ability.getUnlockLevel();
+    }
+
+    
+
+    public boolean isReady(AbilityHandle<?> handle) {
+        return isUnlocked(handle) && !handle.get().isOnCooldown(uuid, states);
+    }
+
+    
+
+    public double getEffect(AbilityHandle<?> handle) {
+        Ability ability = handle.get();
+        return ability != null ? ability.getEffectForLevel(level) : 0.0;
+    }
+
+    
+
+    public boolean trigger(AbilityHandle<?> handle, int cooldownSeconds) {
+        return isReady(handle) && handle.get().activate(player, plugin, cooldownSeconds);
+    }
+}
\ No newline at end of file
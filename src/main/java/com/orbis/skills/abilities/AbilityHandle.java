@@ -0,0 +1,35 @@
+package com.orbis.skills.abilities;
+
+
+
+public final class AbilityHandle<A extends Ability> {
+
+    private final String id;
+    private final Class<A> type;
+    private volatile A ability;
+
+    public AbilityHandle(String id, Class<A> type) {
+        this.id = id.toLowerCase();
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    
+
+    public A get() {
+        return ability;
+    }
+
+    public boolean isPresent() {
+        return ability != null;
+    }
+
+    
+
+    public void resolve(Ability ability) {
+        this.ability = type.isInstance(ability) ? type.cast(ability) : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+package com.orbis.skills.abilities;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.data.PlacedBlockTracker;
+import com.orbis.skills.skills.Skill;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+
+
+public class BlockBreakScheduler {
+
+    private final OrbisSkills plugin;
+    private final Map<UUID, PlayerQueue> queues = new HashMap<>();
+    private final ArrayDeque<PlayerQueue> rotation = new ArrayDeque<>();
+
+    public BlockBreakScheduler(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    
+
+    public void start() {
+        Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    
+
+    public void submit(Player player, Skill skill, List<Block> blocks, Predicate<Material> matches,
+                       double expPerBlock) {
+        if (blocks.isEmpty() || !player.isOnline()) {
+            return;
+        }
+
+        UUID uuid = player.getUniqueId();
+        PlayerQueue queue = queues.get(uuid);
+        if (queue == null) {
+            queue = new PlayerQueue(uuid);
+            queues.put(uuid, queue);
+            rotation.add(queue);
+        }
+        queue.jobs.add(new Job(skill, blocks, matches, expPerBlock));
+    }
+
+    
+
+    public void cancel(UUID uuid) {
+        PlayerQueue queue = queues.remove(uuid);
+        if (queue == null) {
+            return;
+        }
+
+        rotation.remove(queue);
+        Player player = Bukkit.getPlayer(uuid);
+        for (Job job : queue.jobs) {
+            finish(player, job);
+        }
+    }
+
+    
+
+    public void cancelAll() {
+        for (UUID uuid : new ArrayList<>(queues.keySet())) {
+            cancel(uuid);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (PlayerQueue queue : rotation) {
+            size += queue.jobs.size();
+        }
+        return size;
+    }
+
+    private void tick() {
+        int budget = plugin.getConfigManager().getSettings().getBlockBreaksPerTick();
+
+       
+
+        while (budget > 0 && !rotation.isEmpty()) {
+            PlayerQueue queue = rotation.poll();
+            Player player = Bukkit.getPlayer(queue.uuid);
+            if (player == null) {
+                queues.remove(queue.uuid);
+                for (Job job : queue.jobs) {
+                    finish(null, job);
+                }
+                continue;
+            }
+
+            budget--;
+            Job job = queue.jobs.peek();
+            if (!step(player, job)) {
+                queue.jobs.poll();
+                finish(player, job);
+            }
+
+            if (queue.jobs.isEmpty()) {
+                queues.remove(queue.uuid);
+            } else {
+                rotation.add(queue);
+            }
+        }
+    }
+
+    private boolean step(Player player, Job job) {
+        Block block = job.blocks.get(job.cursor++);
+        World world = block.getWorld();
+        if (!world.isChunkLoaded(block.getX() >> 4, block.getZ() >> 4)) {
+           
+
+            return false;
+        }
+
+        if (job.matches.test(block.getType())) {
+           
+
+            PlacedBlockTracker tracker = plugin.getPlacedBlockTracker();
+            if (!tracker.isPlaced(block)) {
+                job.rewarded++;
+            }
+            tracker.unmark(block);
+
+            BlockData data = block.getBlockData();
+            job.addDrops(block.getDrops(player.getInventory().getItemInMainHand(), player));
+            block.setType(Material.AIR);
+
+            Location center = block.getLocation().add(0.5, 0.5, 0.5);
+            world.spawnParticle(Particle.BLOCK, center, 16, 0.25, 0.25, 0.25, data);
+            world.playSound(center, data.getSoundGroup().getBreakSound(), 1.0f, 1.0f);
+
+            if (job.dropLocation == null) {
+                job.dropLocation = center;
+            }
+            job.broken++;
+        }
+
+        return job.cursor < job.blocks.size();
+    }
+
+    private void finish(Player player, Job job) {
+        if (job.broken == 0) {
+            return;
+        }
+
+        if (player != null && job.expPerBlock > 0 && job.rewarded > 0) {
+            job.skill.addExperience(player, job.expPerBlock * job.rewarded);
+        }
+
+        Location location = job.dropLocation;
+        World world = location.getWorld();
+        boolean loaded = world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        for (ItemStack drop : job.drops) {
+            if (loaded) {
+                world.dropItemNaturally(location, drop);
+            } else if (player != null) {
+               
+
+                for (ItemStack left : player.getInventory().addItem(drop).values()) {
+                    player.getWorld().dropItemNaturally(player.getLocation(), left);
+                }
+            }
+        }
+    }
+
+    private static final class PlayerQueue {
+        private final UUID uuid;
+        private final ArrayDeque<Job> jobs = new ArrayDeque<>();
+
+        private PlayerQueue(UUID uuid) {
+            this.uuid = uuid;
+        }
+    }
+
+    private static final class Job {
+        private final Skill skill;
+        private final List<Block> blocks;
+        private final Predicate<Material> matches;
+        private final double expPerBlock;
+        private final List<ItemStack> drops = new ArrayList<>();
+        private Location dropLocation;
+        private int cursor = 0;
+        private int broken = 0;
+        private int rewarded = 0;
+
+        private Job(Skill skill, List<Block> blocks, Predicate<Material> matches, double expPerBlock) {
+            this.skill = skill;
+            this.blocks = blocks;
+            this.matches = matches;
+            this.expPerBlock = expPerBlock;
+        }
+
+        
+
+        private void addDrops(Collection<ItemStack> items) {
+            for (ItemStack item : items) {
+                int amount = item.getAmount();
+                for (ItemStack merged : drops) {
+                    if (amount == 0) {
+                        break;
+                    }
+                    if (merged.isSimilar(item)) {
+                        int moved = Math.min(amount, merged.getMaxStackSize() - merged.getAmount());
+                        merged.setAmount(merged.getAmount() + moved);
+                        amount -= moved;
+                    }
+                }
+
+                if (amount > 0) {
+                    ItemStack rest = item.clone();
+                    rest.setAmount(amount);
+                    drops.add(rest);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
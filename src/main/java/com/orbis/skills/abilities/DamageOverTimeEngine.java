@@ -0,0 +1,269 @@
+package com.orbis.skills.abilities;
+
+import com.orbis.skills.OrbisSkills;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+
+
+public class DamageOverTimeEngine {
+
+    private final OrbisSkills plugin;
+    private final List<Type> types = new ArrayList<>();
+    private final Map<Long, Integer> indexes = new HashMap<>();
+
+    private int size = 0;
+    private int[] entityIds = new int[16];
+    private int[] typeIds = new int[16];
+    private int[] remainingPulses = new int[16];
+    private int[] nextPulseTick = new int[16];
+    private int[] stacks = new int[16];
+    private double[] damagePerPulse = new double[16];
+    private LivingEntity[] targets = new LivingEntity[16];
+    private UUID[] sources = new UUID[16];
+
+    private int currentTick = 0;
+    private int cursor = 0;
+
+    public DamageOverTimeEngine(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    
+
+    public void start() {
+        Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    
+
+    public Type registerType(String name, int intervalTicks, Stacking stacking, int maxStacks,
+                             boolean lethal, Consumer<LivingEntity> pulseEffect) {
+        for (Type type : types) {
+            if (type.name.equalsIgnoreCase(name)) {
+                Type replaced = new Type(type.id, name, intervalTicks, stacking, maxStacks, lethal, pulseEffect);
+                types.set(type.id, replaced);
+                return replaced;
+            }
+        }
+
+        Type type = new Type(types.size(), name, intervalTicks, stacking, maxStacks, lethal, pulseEffect);
+        types.add(type);
+        return type;
+    }
+
+    
+
+    public void apply(Type type, LivingEntity target, Entity source, double damage, int pulses) {
+        if (pulses <= 0 || damage <= 0) {
+            return;
+        }
+
+        long key = key(target.getEntityId(), type.id);
+        Integer existing = indexes.get(key);
+        UUID sourceId = source != null ? source.getUniqueId() : null;
+        if (existing == null) {
+            add(key, type, target, sourceId, damage, pulses);
+            return;
+        }
+
+        int index = existing;
+        switch (type.stacking) {
+            case IGNORE:
+                return;
+            case REFRESH:
+                remainingPulses[index] = Math.max(remainingPulses[index], pulses);
+                damagePerPulse[index] = Math.max(damagePerPulse[index], damage);
+                break;
+            case EXTEND:
+                remainingPulses[index] += pulses;
+                break;
+            case STACK:
+                if (stacks[index] < type.maxStacks) {
+                    stacks[index]++;
+                    damagePerPulse[index] += damage;
+                }
+                remainingPulses[index] = Math.max(remainingPulses[index], pulses);
+                break;
+        }
+        sources[index] = sourceId;
+    }
+
+    
+
+    public boolean has(Type type, LivingEntity target) {
+        return indexes.containsKey(key(target.getEntityId(), type.id));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void tick() {
+        currentTick++;
+        if (size == 0) {
+            return;
+        }
+
+        int budget = plugin.getConfigManager().getSettings().getDotPulsesPerTick();
+        int checks = size;
+        int index = cursor < size ? cursor : 0;
+
+       
+
+        while (checks-- > 0 && budget > 0 && size > 0) {
+            if (nextPulseTick[index] - currentTick <= 0) {
+                budget--;
+                if (!pulse(index)) {
+                   
+
+                    remove(index);
+                    if (index >= size) {
+                        index = 0;
+                    }
+                    continue;
+                }
+            }
+
+            if (++index >= size) {
+                index = 0;
+            }
+        }
+        cursor = index;
+    }
+
+    private boolean pulse(int index) {
+        LivingEntity target = targets[index];
+        if (!target.isValid() || target.isDead()) {
+            return false;
+        }
+
+        Type type = types.get(typeIds[index]);
+        double damage = damagePerPulse[index];
+        double health = target.getHealth();
+        if (health > damage) {
+            target.setHealth(health - damage);
+        } else if (type.lethal) {
+           
+
+            Entity source = sources[index] != null ? Bukkit.getEntity(sources[index]) : null;
+            if (source != null) {
+                target.damage(health, source);
+            } else {
+                target.damage(health);
+            }
+        } else {
+            target.setHealth(Math.min(health, 0.1));
+        }
+
+        if (type.pulseEffect != null) {
+            type.pulseEffect.accept(target);
+        }
+
+        if (--remainingPulses[index] <= 0) {
+            return false;
+        }
+        nextPulseTick[index] = currentTick + type.intervalTicks;
+        return true;
+    }
+
+    private void add(long key, Type type, LivingEntity target, UUID source, double damage, int pulses) {
+        if (size == entityIds.length) {
+            int capacity = size * 2;
+            entityIds = Arrays.copyOf(entityIds, capacity);
+            typeIds = Arrays.copyOf(typeIds, capacity);
+            remainingPulses = Arrays.copyOf(remainingPulses, capacity);
+            nextPulseTick = Arrays.copyOf(nextPulseTick, capacity);
+            stacks = Arrays.copyOf(stacks, capacity);
+            damagePerPulse = Arrays.copyOf(damagePerPulse, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            sources = Arrays.copyOf(sources, capacity);
+        }
+
+        int index = size++;
+        entityIds[index] = target.getEntityId();
+        typeIds[index] = type.id;
+        remainingPulses[index] = pulses;
+        nextPulseTick[index] = currentTick + type.intervalTicks;
+        stacks[index] = 1;
+        damagePerPulse[index] = damage;
+        targets[index] = target;
+        sources[index] = source;
+        indexes.put(key, index);
+    }
+
+    private void remove(int index) {
+        indexes.remove(key(entityIds[index], typeIds[index]));
+
+        int last = --size;
+        if (index != last) {
+            entityIds[index] = entityIds[last];
+            typeIds[index] = typeIds[last];
+            remainingPulses[index] = remainingPulses[last];
+            nextPulseTick[index] = nextPulseTick[last];
+            stacks[index] = stacks[last];
+            damagePerPulse[index] = damagePerPulse[last];
+            targets[index] = targets[last];
+            sources[index] = sources[last];
+            indexes.put(key(entityIds[index], typeIds[index]), index);
+        }
+
+        targets[last] = null;
+        sources[last] = null;
+    }
+
+    private static long key(int entityId, int typeId) {
+        return ((long) entityId << 16) | typeId;
+    }
+
+    
+
+    public enum Stacking {
+       
+
+        IGNORE,
+       
+
+        REFRESH,
+       
+
+        EXTEND,
+       
+
+        STACK
+    }
+
+    public static final class Type {
+        private final int id;
+        private final String name;
+        private final int intervalTicks;
+        private final Stacking stacking;
+        private final int maxStacks;
+        private final boolean lethal;
+        private final Consumer<LivingEntity> pulseEffect;
+
+        private Type(int id, String name, int intervalTicks, Stacking stacking, int maxStacks,
+                     boolean lethal, Consumer<LivingEntity> pulseEffect) {
+            this.id = id;
+            this.name = name;
+            this.intervalTicks = Math.max(1, intervalTicks);
+            this.stacking = stacking;
+            this.maxStacks = Math.max(1, maxStacks);
+            this.lethal = lethal;
+            this.pulseEffect = pulseEffect;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.orbis.skills.config;
+
+
+
+public enum Message {
+    PREFIX("prefix"),
+    LEVEL_UP("level-up", "skill", "level"),
+    LEVEL_UP_TITLE("level-up-title", "skill", "level"),
+    LEVEL_UP_SUBTITLE("level-up-subtitle", "skill", "level"),
+    ABILITY_UNLOCK("ability-unlock", "ability", "skill"),
+    ABILITY_ACTIVATE("ability-activate", "ability", "value"),
+    SPECIAL_DROP("special-drop", "item"),
+    SPECIAL_DROP_FULL_INV("special-drop-full-inv", "item");
+
+    private final String path;
+    private final String[] parameters;
+
+    Message(String path, String... parameters) {
+        this.path = path;
+        this.parameters = parameters;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String[] getParameters() {
+        return parameters.clone();
+    }
+
+    String[] parameters() {
+        return parameters;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.orbis.skills.config;
+
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+
+
+public final class MessageCatalog {
+
+    private final MessageTemplate[] messages;
+    private final Map<String, MessageTemplate> byPath;
+    private final Map<String, String> abilityActivations;
+
+    private MessageCatalog(MessageTemplate[] messages, Map<String, MessageTemplate> byPath,
+                           Map<String, String> abilityActivations) {
+        this.messages = messages;
+        this.byPath = byPath;
+        this.abilityActivations = abilityActivations;
+    }
+
+    
+
+    static MessageCatalog compile(FileConfiguration messagesConfig, Collection<FileConfiguration> abilityConfigs) {
+        Map<String, MessageTemplate> byPath = new HashMap<>();
+        if (messagesConfig != null) {
+            for (String path : messagesConfig.getKeys(true)) {
+                if (messagesConfig.isString(path)) {
+                    byPath.put(path, MessageTemplate.compile(messagesConfig.getString(path)));
+                }
+            }
+        }
+
+        Message[] values = Message.values();
+        MessageTemplate[] messages = new MessageTemplate[values.length];
+        for (Message message : values) {
+            String text = messagesConfig != null ? messagesConfig.getString(message.getPath()) : null;
+            if (text == null) {
+                text = ChatColor.RED + "Message not found: " + message.getPath();
+            }
+            messages[message.ordinal()] = MessageTemplate.compile(text, message.parameters());
+            byPath.put(message.getPath(), messages[message.ordinal()]);
+        }
+
+       
+
+        String prefix = messages[Message.PREFIX.ordinal()].render();
+        Map<String, String> abilityActivations = new HashMap<>();
+        for (FileConfiguration config : abilityConfigs) {
+            ConfigurationSection abilities = config.getConfigurationSection("abilities");
+            if (abilities == null) {
+                continue;
+            }
+
+            for (String id : abilities.getKeys(false)) {
+                String text = abilities.getString(id + ".messages.activate");
+                if (text != null && !text.isEmpty()) {
+                    abilityActivations.put(id.toLowerCase(), prefix + MessageTemplate.compile(text).render());
+                }
+            }
+        }
+
+        return new MessageCatalog(messages, byPath, abilityActivations);
+    }
+
+    public MessageTemplate get(Message message) {
+        return messages[message.ordinal()];
+    }
+
+    
+
+    public String render(Message message, Object... args) {
+        return messages[message.ordinal()].render(args);
+    }
+
+    
+
+    public MessageTemplate get(String path) {
+        return byPath.get(path);
+    }
+
+    
+
+    public String getAbilityActivation(String abilityId) {
+        return abilityActivations.get(abilityId.toLowerCase());
+    }
+}
\ No newline at end of file
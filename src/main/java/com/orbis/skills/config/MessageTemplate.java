@@ -0,0 +1,86 @@
+package com.orbis.skills.config;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+
+public final class MessageTemplate {
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    
+
+    public static MessageTemplate compile(String text, String... parameters) {
+        String colored = ChatColor.translateAlternateColorCodes('&', text);
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int index = 0;
+        while (index < colored.length()) {
+            char c = colored.charAt(index);
+            if (c == '{') {
+                int end = colored.indexOf('}', index + 1);
+                int parameter = end > 0 ? indexOf(parameters, colored.substring(index + 1, end)) : -1;
+                if (parameter >= 0) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots.add(parameter);
+                    index = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            index++;
+        }
+        literals.add(literal.toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), slotArray);
+    }
+
+    
+
+    public String render(Object... args) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + slots.length * 16);
+        builder.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            int slot = slots[i];
+            builder.append(slot < args.length ? args[slot] : "");
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static int indexOf(String[] parameters, String name) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
\ No newline at end of file
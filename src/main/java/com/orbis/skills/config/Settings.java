@@ -0,0 +1,192 @@
+package com.orbis.skills.config;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+
+
+public final class Settings {
+
+    private final double expMultiplier;
+    private final int maxLevel;
+    private final boolean levelUpMessages;
+    private final boolean levelUpTitles;
+    private final boolean levelUpSounds;
+    private final Sound levelUpSound;
+    private final boolean abilityMessages;
+    private final boolean expCoalescing;
+    private final boolean trackPlacedBlocks;
+    private final int dotPulsesPerTick;
+    private final int blockBreaksPerTick;
+    private final long multiplierRefreshInterval;
+    private final int saveInterval;
+    private final int snapshotInterval;
+    private final long loadTimeout;
+    private final int saveOnQuitDelay;
+    private final Set<String> disabledWorldNames;
+    private final Set<UUID> disabledWorlds;
+    private final List<String> disabledRegions;
+    private final Map<String, Double> baseExpValues;
+
+    private Settings(ConfigurationSection config, Sound levelUpSound, Map<String, Double> baseExpValues) {
+        this.expMultiplier = config.getDouble("exp-multiplier", 1.0);
+        this.maxLevel = config.getInt("max-level", 100);
+        this.levelUpMessages = config.getBoolean("level-up-messages", true);
+        this.levelUpTitles = config.getBoolean("level-up-titles", true);
+        this.levelUpSounds = config.getBoolean("level-up-sounds", true);
+        this.levelUpSound = levelUpSound;
+        this.abilityMessages = config.getBoolean("ability-messages", true);
+        this.expCoalescing = config.getBoolean("exp-coalescing", true);
+        this.trackPlacedBlocks = config.getBoolean("track-placed-blocks", true);
+        this.dotPulsesPerTick = Math.max(1, config.getInt("dot-pulses-per-tick", 200));
+        this.blockBreaksPerTick = Math.max(1, config.getInt("block-breaks-per-tick", 16));
+        this.multiplierRefreshInterval = Math.max(1L, config.getLong("multiplier-refresh-interval", 60L));
+        this.saveInterval = config.getInt("save-interval", 6000);
+        this.snapshotInterval = Math.max(1, config.getInt("snapshot-interval", 20));
+        this.loadTimeout = config.getLong("load-timeout", 5000L);
+        this.saveOnQuitDelay = config.getInt("save-on-quit-delay", 20);
+        this.disabledRegions = Collections.unmodifiableList(config.getStringList("disabled-regions"));
+        this.baseExpValues = baseExpValues;
+
+       
+
+        this.disabledWorldNames = Collections.unmodifiableSet(new HashSet<>(config.getStringList("disabled-worlds")));
+        Set<UUID> worldIds = new HashSet<>();
+        for (String name : disabledWorldNames) {
+            World world = Bukkit.getWorld(name);
+            if (world != null) {
+                worldIds.add(world.getUID());
+            }
+        }
+        this.disabledWorlds = Collections.unmodifiableSet(worldIds);
+    }
+
+    
+
+    static Settings load(FileConfiguration config, Logger logger) {
+        ConfigurationSection section = config.getConfigurationSection("settings");
+        if (section == null) {
+            section = new MemoryConfiguration();
+        }
+
+        String soundName = config.getString("sounds.level-up", "ENTITY_PLAYER_LEVELUP");
+        Sound sound = null;
+        try {
+            sound = Sound.valueOf(soundName);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid sound name in config: " + soundName);
+        }
+
+        Map<String, Double> baseExpValues = new HashMap<>();
+        ConfigurationSection baseValues = config.getConfigurationSection("experience.base-values");
+        if (baseValues != null) {
+            for (String skill : baseValues.getKeys(false)) {
+                baseExpValues.put(skill.toLowerCase(), baseValues.getDouble(skill));
+            }
+        }
+
+        return new Settings(section, sound, Collections.unmodifiableMap(baseExpValues));
+    }
+
+    public double getExpMultiplier() {
+        return expMultiplier;
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    public boolean isLevelUpMessages() {
+        return levelUpMessages;
+    }
+
+    public boolean isLevelUpTitles() {
+        return levelUpTitles;
+    }
+
+    public boolean isLevelUpSounds() {
+        return levelUpSounds;
+    }
+
+    
+
+    public Sound getLevelUpSound() {
+        return levelUpSound;
+    }
+
+    public boolean isAbilityMessages() {
+        return abilityMessages;
+    }
+
+    public boolean isExpCoalescing() {
+        return expCoalescing;
+    }
+
+    public boolean isTrackPlacedBlocks() {
+        return trackPlacedBlocks;
+    }
+
+    public int getDotPulsesPerTick() {
+        return dotPulsesPerTick;
+    }
+
+    public int getBlockBreaksPerTick() {
+        return blockBreaksPerTick;
+    }
+
+    
+
+    public double getBaseExp(String skill, double def) {
+        Double value = baseExpValues.get(skill);
+        return value != null ? value : def;
+    }
+
+    public long getMultiplierRefreshInterval() {
+        return multiplierRefreshInterval;
+    }
+
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public long getLoadTimeout() {
+        return loadTimeout;
+    }
+
+    public int getSaveOnQuitDelay() {
+        return saveOnQuitDelay;
+    }
+
+    public List<String> getDisabledRegions() {
+        return disabledRegions;
+    }
+
+    
+
+    public boolean isWorldDisabled(World world) {
+        return disabledWorlds.contains(world.getUID());
+    }
+
+    
+
+    boolean needsWorld(World world) {
+        return disabledWorldNames.contains(world.getName()) && !disabledWorlds.contains(world.getUID());
+    }
+}
\ No newline at end of file
@@ -1,194 +1,420 @@
-package com.orbis.skills.data;
-
-import com.orbis.skills.OrbisSkills;
-import com.orbis.skills.skills.Skill;
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
-public class DataManager {
-
-    private final OrbisSkills plugin;
-    private final Storage storage;
-    private final Map<UUID, PlayerData> playerDataCache = new ConcurrentHashMap<>();
-    private BukkitTask autoSaveTask;
-
-    
-
-    public DataManager(OrbisSkills plugin, Storage storage) {
-        this.plugin = plugin;
-        this.storage = storage;
-    }
-
-    
-
-    public void initialize() {
-       
-
-        storage.initialize();
-
-       
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            loadPlayerData(player.getUniqueId());
-        }
-
-       
-
-        int saveInterval = plugin.getConfig().getInt("settings.save-interval", 6000);
-        autoSaveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(
-                plugin, this::saveAllData, saveInterval, saveInterval);
-
-        plugin.getLogger().info("DataManager initialized with " + playerDataCache.size() + " players");
-    }
-
-    
-
-    public PlayerData loadPlayerData(UUID uuid) {
-       
-
-        if (playerDataCache.containsKey(uuid)) {
-            return playerDataCache.get(uuid);
-        }
-
-       
-
-        PlayerData data = storage.loadPlayerData(uuid);
-        if (data == null) {
-           
-
-            data = new PlayerData(uuid);
-
-           
-
-            for (Skill skill : plugin.getSkillManager().getAllSkills()) {
-                data.initializeSkill(skill.getName());
-            }
-        }
-
-       
-
-        playerDataCache.put(uuid, data);
-        return data;
-    }
-
-    
-
-    public void savePlayerData(UUID uuid) {
-        PlayerData data = playerDataCache.get(uuid);
-        if (data != null && data.isDirty()) {
-            storage.savePlayerData(data);
-            data.setDirty(false);
-        }
-    }
-
-    
-
-    public void saveAllData() {
-        int savedCount = 0;
-        for (Map.Entry<UUID, PlayerData> entry : playerDataCache.entrySet()) {
-            PlayerData data = entry.getValue();
-            if (data.isDirty()) {
-                storage.savePlayerData(data);
-                data.setDirty(false);
-                savedCount++;
-            }
-        }
-
-        if (savedCount > 0) {
-            plugin.getLogger().info("Saved " + savedCount + " player data entries");
-        }
-    }
-
-    
-
-    public void unloadPlayerData(UUID uuid) {
-        PlayerData data = playerDataCache.get(uuid);
-        if (data != null) {
-            if (data.isDirty()) {
-                storage.savePlayerData(data);
-            }
-            playerDataCache.remove(uuid);
-        }
-    }
-
-    
-
-    public PlayerData getPlayerData(UUID uuid) {
-        return playerDataCache.get(uuid);
-    }
-
-    
-
-    public boolean addExperience(UUID uuid, String skillName, double amount) {
-        PlayerData data = getPlayerData(uuid);
-        if (data == null) {
-            return false;
-        }
-
-        return data.addSkillExp(skillName, amount);
-    }
-
-    
-
-    public void setExperience(UUID uuid, String skillName, double amount) {
-        PlayerData data = getPlayerData(uuid);
-        if (data != null) {
-            data.setSkillExp(skillName, amount);
-        }
-    }
-
-    
-
-    public void setLevel(UUID uuid, String skillName, int level) {
-        PlayerData data = getPlayerData(uuid);
-        if (data != null) {
-            data.setSkillLevel(skillName, level);
-        }
-    }
-
-    
-
-    public void resetSkill(UUID uuid, String skillName) {
-        PlayerData data = getPlayerData(uuid);
-        if (data != null) {
-            data.resetSkill(skillName);
-        }
-    }
-
-    
-
-    public void resetAllSkills(UUID uuid) {
-        PlayerData data = getPlayerData(uuid);
-        if (data != null) {
-            data.resetAllSkills();
-        }
-    }
-
-    
-
-    public void shutdown() {
-       
-
-        if (autoSaveTask != null) {
-            autoSaveTask.cancel();
-        }
-
-       
-
-        saveAllData();
-
-       
-
-        playerDataCache.clear();
-
-       
-
-        storage.close();
-    }
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.skills.Skill;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+public class DataManager {
+
+    private final OrbisSkills plugin;
+    private final Storage storage;
+    private final Map<UUID, PlayerData> playerDataCache = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<PlayerData>> pendingLoads = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<PlayerData>> pendingOfflineLoads = new ConcurrentHashMap<>();
+    private final Set<UUID> joinedPlayers = ConcurrentHashMap.newKeySet();
+    private final OfflineDataCache offlineCache;
+    private BukkitTask autoSaveTask;
+    private BukkitTask snapshotTask;
+
+    
+
+    public DataManager(OrbisSkills plugin, Storage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+
+        ConfigurationSection cacheConfig = plugin.getConfig().getConfigurationSection("storage.offline-cache");
+        if (cacheConfig == null) {
+            cacheConfig = new MemoryConfiguration();
+        }
+        this.offlineCache = new OfflineDataCache(
+                cacheConfig.getInt("max-entries", 1000),
+                cacheConfig.getLong("max-memory-kb", 2048L) * 1024L,
+                cacheConfig.getLong("expire-after", 600L) * 1000L);
+    }
+
+    
+
+    public void initialize() {
+       
+
+        storage.initialize();
+
+       
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            joinedPlayers.add(player.getUniqueId());
+            loadPlayerData(player.getUniqueId());
+        }
+
+       
+
+        int saveInterval = plugin.getConfigManager().getSettings().getSaveInterval();
+        autoSaveTask = Bukkit.getScheduler().runTaskTimer(
+                plugin, this::saveAllData, saveInterval, saveInterval);
+
+       
+
+        int snapshotInterval = plugin.getConfigManager().getSettings().getSnapshotInterval();
+        snapshotTask = Bukkit.getScheduler().runTaskTimer(
+                plugin, this::publishSnapshots, snapshotInterval, snapshotInterval);
+
+        plugin.getLogger().info("DataManager initialized with " + playerDataCache.size() + " players");
+    }
+
+    
+
+    public PlayerData loadPlayerData(UUID uuid) {
+       
+
+        if (playerDataCache.containsKey(uuid)) {
+            return playerDataCache.get(uuid);
+        }
+
+        CompletableFuture<PlayerData> pending = pendingLoads.get(uuid);
+        if (pending != null) {
+            return pending.join();
+        }
+
+        PlayerData offline = takeFromOfflineCache(uuid);
+        if (offline != null) {
+            return cacheLoadedData(uuid, offline);
+        }
+
+        return cacheLoadedData(uuid, storage.loadPlayerData(uuid));
+    }
+
+    
+
+    public CompletableFuture<PlayerData> loadPlayerDataAsync(UUID uuid) {
+        PlayerData cached = playerDataCache.get(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+       
+
+        PlayerData offline = takeFromOfflineCache(uuid);
+        if (offline != null) {
+            return CompletableFuture.completedFuture(cacheLoadedData(uuid, offline));
+        }
+
+        CompletableFuture<PlayerData> future = new CompletableFuture<>();
+        CompletableFuture<PlayerData> existing = pendingLoads.putIfAbsent(uuid, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        storage.loadPlayerDataAsync(uuid).whenComplete((data, error) -> {
+            if (error != null) {
+                pendingLoads.remove(uuid, future);
+                plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uuid, error);
+                future.completeExceptionally(error);
+                return;
+            }
+
+            PlayerData loaded = cacheLoadedData(uuid, data);
+            pendingLoads.remove(uuid, future);
+            future.complete(loaded);
+        });
+        return future;
+    }
+
+    
+
+    private PlayerData cacheLoadedData(UUID uuid, PlayerData data) {
+        if (data == null) {
+           
+
+            data = createDefaultData(uuid);
+        }
+
+       
+
+        data.publishSnapshot();
+        if (!joinedPlayers.contains(uuid)) {
+           
+
+            offlineCache.put(uuid, data);
+
+           
+
+            if (!joinedPlayers.contains(uuid)) {
+                return data;
+            }
+            PlayerData parked = takeFromOfflineCache(uuid);
+            if (parked == null) {
+                PlayerData online = playerDataCache.get(uuid);
+                return online != null ? online : data;
+            }
+            data = parked;
+        }
+
+        PlayerData existing = playerDataCache.putIfAbsent(uuid, data);
+        return existing != null ? existing : data;
+    }
+
+    
+
+    private PlayerData createDefaultData(UUID uuid) {
+        PlayerData data = new PlayerData(uuid);
+
+       
+
+        for (Skill skill : plugin.getSkillManager().getAllSkills()) {
+            data.initializeSkill(skill.getName());
+        }
+        return data;
+    }
+
+    
+
+    private PlayerData takeFromOfflineCache(UUID uuid) {
+        PlayerData data = offlineCache.get(uuid);
+        if (data != null) {
+            offlineCache.remove(uuid);
+        }
+        return data;
+    }
+
+    
+
+    public CompletableFuture<PlayerData> loadOfflinePlayerData(UUID uuid) {
+        PlayerData online = playerDataCache.get(uuid);
+        if (online != null) {
+            return CompletableFuture.completedFuture(online);
+        }
+
+        PlayerData cached = offlineCache.get(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<PlayerData> future = new CompletableFuture<>();
+        CompletableFuture<PlayerData> existing = pendingOfflineLoads.putIfAbsent(uuid, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        storage.loadPlayerDataAsync(uuid).whenComplete((data, error) -> {
+            if (error != null) {
+                pendingOfflineLoads.remove(uuid, future);
+                plugin.getLogger().log(Level.SEVERE, "Failed to load offline player data for " + uuid, error);
+                future.completeExceptionally(error);
+                return;
+            }
+
+            PlayerData loaded = data;
+            if (loaded == null) {
+               
+
+                loaded = createDefaultData(uuid);
+                loaded.setDirty(false);
+            }
+            loaded.publishSnapshot();
+            offlineCache.put(uuid, loaded);
+            pendingOfflineLoads.remove(uuid, future);
+            future.complete(loaded);
+        });
+        return future;
+    }
+
+    
+
+    public void savePlayerData(UUID uuid) {
+        PlayerData data = playerDataCache.get(uuid);
+        if (data != null) {
+            savePlayerData(data);
+        }
+    }
+
+    
+
+    public void savePlayerData(PlayerData data) {
+        if (data.isDirty()) {
+            save(data.captureChanges());
+        }
+    }
+
+    
+
+    public void saveAllData() {
+        List<PlayerDataSnapshot> dirtyData = new ArrayList<>();
+        for (Map.Entry<UUID, PlayerData> entry : playerDataCache.entrySet()) {
+            PlayerData data = entry.getValue();
+            if (data.isDirty()) {
+                PlayerDataSnapshot snapshot = data.captureChanges();
+                plugin.getGlobalRankings().recordSave(snapshot);
+                dirtyData.add(snapshot);
+            }
+        }
+
+       
+
+        if (!dirtyData.isEmpty()) {
+            storage.savePlayerData(dirtyData);
+            plugin.getLogger().info("Saved " + dirtyData.size() + " player data entries");
+        }
+
+        offlineCache.expireEntries();
+    }
+
+    
+
+    public void markJoined(UUID uuid) {
+        joinedPlayers.add(uuid);
+    }
+
+    
+
+    public void markQuit(UUID uuid) {
+        joinedPlayers.remove(uuid);
+    }
+
+    
+
+    public void unloadPlayerData(UUID uuid) {
+       
+
+        if (Bukkit.getPlayer(uuid) != null) {
+            return;
+        }
+
+        PlayerData data = playerDataCache.get(uuid);
+        if (data != null) {
+            if (data.isDirty()) {
+                save(data.captureChanges());
+            }
+            playerDataCache.remove(uuid);
+
+           
+
+            offlineCache.put(uuid, data);
+        }
+    }
+
+    
+
+    public PlayerData getPlayerData(UUID uuid) {
+        return playerDataCache.get(uuid);
+    }
+
+    
+
+    public PlayerDataSnapshot getSnapshot(UUID uuid) {
+        PlayerData data = playerDataCache.get(uuid);
+        if (data == null) {
+            PlayerData offline = offlineCache.get(uuid);
+            return offline != null ? offline.getSnapshot() : null;
+        }
+
+        return Bukkit.isPrimaryThread() ? data.publishSnapshot() : data.getSnapshot();
+    }
+
+    
+
+    public OfflineDataCache getOfflineCache() {
+        return offlineCache;
+    }
+
+    
+
+    private void publishSnapshots() {
+        for (PlayerData data : playerDataCache.values()) {
+            data.publishSnapshot();
+        }
+    }
+
+    
+
+    public boolean addExperience(UUID uuid, String skillName, double amount) {
+        PlayerData data = getPlayerData(uuid);
+        if (data == null) {
+            return false;
+        }
+
+        return data.addSkillExp(skillName, amount);
+    }
+
+    
+
+    public void setExperience(UUID uuid, String skillName, double amount) {
+        PlayerData data = getPlayerData(uuid);
+        if (data != null) {
+            data.setSkillExp(skillName, amount);
+        }
+    }
+
+    
+
+    public void setLevel(UUID uuid, String skillName, int level) {
+        PlayerData data = getPlayerData(uuid);
+        if (data != null) {
+            data.setSkillLevel(skillName, level);
+        }
+    }
+
+    
+
+    public void resetSkill(UUID uuid, String skillName) {
+        PlayerData data = getPlayerData(uuid);
+        if (data != null) {
+            data.resetSkill(skillName);
+        }
+    }
+
+    
+
+    public void resetAllSkills(UUID uuid) {
+        PlayerData data = getPlayerData(uuid);
+        if (data != null) {
+            data.resetAllSkills();
+        }
+    }
+
+    
+
+    private void save(PlayerDataSnapshot snapshot) {
+        storage.savePlayerData(snapshot);
+        plugin.getGlobalRankings().recordSave(snapshot);
+    }
+
+    
+
+    public void shutdown() {
+       
+
+        if (autoSaveTask != null) {
+            autoSaveTask.cancel();
+        }
+        if (snapshotTask != null) {
+            snapshotTask.cancel();
+        }
+
+       
+
+        saveAllData();
+
+       
+
+        playerDataCache.clear();
+        offlineCache.clear();
+
+       
+
+        storage.close();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,603 @@
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.skills.Skill;
+import com.orbis.skills.util.RankedIndex;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+
+
+public class GlobalRankings {
+
+    private static final int PLAYER_BYTES = 16;
+    private static final int ENTRY_BYTES = 16;
+
+    private final OrbisSkills plugin;
+    private final Storage storage;
+    private final boolean enabled;
+    private final int parallelism;
+    private final long refreshInterval;
+    private final ScheduledExecutorService worker;
+    private final Map<UUID, PlayerDataSnapshot> pendingUpdates = new ConcurrentHashMap<>();
+    private volatile Index index;
+   
+
+    private Index retiredIndex;
+
+    public GlobalRankings(OrbisSkills plugin, Storage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+
+        ConfigurationSection config = plugin.getConfig().getConfigurationSection("rankings");
+        if (config == null) {
+            config = new MemoryConfiguration();
+        }
+        this.enabled = config.getBoolean("enabled", true);
+        int configuredParallelism = config.getInt("parallelism", 0);
+        this.parallelism = configuredParallelism > 0 ? configuredParallelism : Runtime.getRuntime().availableProcessors();
+        this.refreshInterval = Math.max(1L, config.getLong("refresh-interval", 30L));
+
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OrbisSkills-Rankings");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    
+
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        worker.execute(this::rebuild);
+        worker.scheduleWithFixedDelay(this::refresh, refreshInterval, refreshInterval, TimeUnit.SECONDS);
+    }
+
+    
+
+    public void recordSave(PlayerDataSnapshot snapshot) {
+        if (enabled && snapshot.hasChanges()) {
+            pendingUpdates.put(snapshot.getUuid(), snapshot);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    
+
+    public int getSize(String skillName) {
+        Index current = acquire();
+        if (current == null) {
+            return 0;
+        }
+        try {
+            Table table = current.getTable(skillName);
+            return table != null ? table.size : 0;
+        } finally {
+            current.readers.decrementAndGet();
+        }
+    }
+
+    
+
+    public List<RankedIndex.Entry> getPage(String skillName, int page, int pageSize) {
+        Index current = acquire();
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return readPage(current, current.getTable(skillName), page, pageSize);
+        } finally {
+            current.readers.decrementAndGet();
+        }
+    }
+
+    private List<RankedIndex.Entry> readPage(Index current, Table table, int page, int pageSize) {
+        if (table == null || page < 1) {
+            return Collections.emptyList();
+        }
+
+        int start = (page - 1) * pageSize;
+        int end = Math.min(table.size, start + pageSize);
+        List<RankedIndex.Entry> entries = new ArrayList<>(Math.max(0, end - start));
+        for (int position = start; position < end; position++) {
+            int offset = position * ENTRY_BYTES;
+            int playerId = table.entries.getInt(offset);
+            entries.add(new RankedIndex.Entry(current.getUuid(playerId),
+                    table.entries.getInt(offset + 4), table.entries.getDouble(offset + 8)));
+        }
+        return entries;
+    }
+
+    
+
+    private Index acquire() {
+        while (true) {
+            Index current = index;
+            if (current == null) {
+                return null;
+            }
+            current.readers.incrementAndGet();
+            if (!current.retired) {
+                return current;
+            }
+            current.readers.decrementAndGet();
+        }
+    }
+
+    public void shutdown() {
+        worker.shutdownNow();
+        pendingUpdates.clear();
+        index = null;
+    }
+
+    
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            int[] skillIds = getRankedSkillIds();
+            Builder builder = new Builder(skillIds);
+            storage.scanAllPlayerData(pool, builder::add);
+
+            index = builder.build(pool);
+            retiredIndex = null;
+            plugin.getLogger().info("Built global rankings for " + builder.count + " players in "
+                    + (System.currentTimeMillis() - start) + "ms");
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to build global rankings", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    
+
+    private void refresh() {
+        Index old = index;
+        if (old == null || pendingUpdates.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<UUID, PlayerDataSnapshot> updates = new HashMap<>(pendingUpdates);
+            for (Map.Entry<UUID, PlayerDataSnapshot> entry : updates.entrySet()) {
+                pendingUpdates.remove(entry.getKey(), entry.getValue());
+            }
+
+           
+
+            Index spare = retiredIndex;
+            Table[] recycled = spare != null && spare.readers.get() == 0 ? spare.tables : null;
+            Index merged = old.merge(updates, recycled);
+            index = merged;
+            old.retired = true;
+            retiredIndex = old;
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to refresh global rankings", e);
+        }
+    }
+
+    private int[] getRankedSkillIds() {
+        List<Skill> skills = new ArrayList<>(plugin.getSkillManager().getAllSkills());
+        int[] ids = new int[skills.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = skills.get(i).getId();
+        }
+        return ids;
+    }
+
+    
+
+    private static class Builder {
+        private final int[] skillIds;
+        private long[] mostSigBits = new long[1024];
+        private long[] leastSigBits = new long[1024];
+        private int[][] levels;
+        private double[][] experience;
+        private int count = 0;
+
+        private Builder(int[] skillIds) {
+            this.skillIds = skillIds;
+           
+
+            this.levels = new int[skillIds.length + 1][1024];
+            this.experience = new double[skillIds.length + 1][1024];
+        }
+
+        private synchronized void add(PlayerData data) {
+            if (count == mostSigBits.length) {
+                int capacity = count * 2;
+                mostSigBits = Arrays.copyOf(mostSigBits, capacity);
+                leastSigBits = Arrays.copyOf(leastSigBits, capacity);
+                for (int column = 0; column < levels.length; column++) {
+                    levels[column] = Arrays.copyOf(levels[column], capacity);
+                    experience[column] = Arrays.copyOf(experience[column], capacity);
+                }
+            }
+
+            mostSigBits[count] = data.getUuid().getMostSignificantBits();
+            leastSigBits[count] = data.getUuid().getLeastSignificantBits();
+            for (int column = 0; column < skillIds.length; column++) {
+                levels[column][count] = data.getSkillLevel(skillIds[column]);
+                experience[column][count] = data.getSkillExp(skillIds[column]);
+            }
+            levels[skillIds.length][count] = data.getTotalLevel();
+            count++;
+        }
+
+        private Index build(ForkJoinPool pool) {
+            ByteBuffer players = allocate(Math.max(1, count) * PLAYER_BYTES);
+            for (int id = 0; id < count; id++) {
+                players.putLong(id * PLAYER_BYTES, mostSigBits[id]);
+                players.putLong(id * PLAYER_BYTES + 8, leastSigBits[id]);
+            }
+            Index index = new Index(players, count, skillIds);
+
+           
+
+            Table[] tables = new Table[levels.length];
+            List<RecursiveAction> tasks = new ArrayList<>();
+            for (int column = 0; column < levels.length; column++) {
+                int sortColumn = column;
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        tables[sortColumn] = sortColumn(index, levels[sortColumn], experience[sortColumn]);
+                    }
+                });
+            }
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    index.idsByUuid = sortedByUuid(index, count);
+                }
+            });
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+
+            index.setTables(tables);
+            return index;
+        }
+
+        private Table sortColumn(Index index, int[] columnLevels, double[] columnExperience) {
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            sort(order, (a, b) -> index.compare(columnLevels[a], columnExperience[a], a,
+                    columnLevels[b], columnExperience[b], b));
+
+            Table table = Table.allocate(count, null);
+            for (int position = 0; position < count; position++) {
+                int id = order[position];
+                table.write(position, id, columnLevels[id], columnExperience[id]);
+            }
+            return table;
+        }
+    }
+
+    
+
+    private static class Index {
+        private final ByteBuffer players;
+        private final int playerCount;
+        private final int[] skillIds;
+        private int[] idsByUuid;
+        private Table[] tables;
+        private final AtomicInteger readers = new AtomicInteger();
+        private volatile boolean retired;
+
+        private Index(ByteBuffer players, int playerCount, int[] skillIds) {
+            this.players = players;
+            this.playerCount = playerCount;
+            this.skillIds = skillIds;
+        }
+
+        private void setTables(Table[] tables) {
+            this.tables = tables;
+        }
+
+        private Table getTable(String skillName) {
+            if (skillName.equalsIgnoreCase("total")) {
+                return tables[skillIds.length];
+            }
+
+            int id = PlayerData.skills().getSkillId(skillName);
+            for (int column = 0; column < skillIds.length; column++) {
+                if (skillIds[column] == id) {
+                    return tables[column];
+                }
+            }
+            return null;
+        }
+
+        private UUID getUuid(int playerId) {
+            return new UUID(players.getLong(playerId * PLAYER_BYTES), players.getLong(playerId * PLAYER_BYTES + 8));
+        }
+
+        private int compareUuid(int a, int b) {
+            int compare = Long.compare(players.getLong(a * PLAYER_BYTES), players.getLong(b * PLAYER_BYTES));
+            if (compare != 0) {
+                return compare;
+            }
+            return Long.compare(players.getLong(a * PLAYER_BYTES + 8), players.getLong(b * PLAYER_BYTES + 8));
+        }
+
+        
+
+        private int compare(int levelA, double expA, int playerA, int levelB, double expB, int playerB) {
+            if (levelA != levelB) {
+                return levelA > levelB ? -1 : 1;
+            }
+            int compare = Double.compare(expB, expA);
+            if (compare != 0) {
+                return compare;
+            }
+            return compareUuid(playerA, playerB);
+        }
+
+        private int findPlayer(UUID uuid) {
+            long most = uuid.getMostSignificantBits();
+            long least = uuid.getLeastSignificantBits();
+            int low = 0;
+            int high = idsByUuid.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int id = idsByUuid[middle];
+                int compare = Long.compare(players.getLong(id * PLAYER_BYTES), most);
+                if (compare == 0) {
+                    compare = Long.compare(players.getLong(id * PLAYER_BYTES + 8), least);
+                }
+
+                if (compare < 0) {
+                    low = middle + 1;
+                } else if (compare > 0) {
+                    high = middle - 1;
+                } else {
+                    return id;
+                }
+            }
+            return -1;
+        }
+
+        private Index merge(Map<UUID, PlayerDataSnapshot> updates, Table[] recycled) {
+           
+
+            int updateCount = updates.size();
+            int[] updateIds = new int[updateCount];
+            PlayerDataSnapshot[] snapshots = new PlayerDataSnapshot[updateCount];
+            List<UUID> newPlayers = new ArrayList<>();
+            int i = 0;
+            for (Map.Entry<UUID, PlayerDataSnapshot> entry : updates.entrySet()) {
+                int id = findPlayer(entry.getKey());
+                if (id < 0) {
+                    id = playerCount + newPlayers.size();
+                    newPlayers.add(entry.getKey());
+                }
+                updateIds[i] = id;
+                snapshots[i] = entry.getValue();
+                i++;
+            }
+
+            ByteBuffer newPlayersBuffer = players;
+            int newPlayerCount = playerCount + newPlayers.size();
+            if (!newPlayers.isEmpty()) {
+               
+
+                if (players.capacity() < newPlayerCount * PLAYER_BYTES) {
+                    newPlayersBuffer = allocate(newPlayerCount * PLAYER_BYTES);
+                    ByteBuffer source = players.duplicate();
+                    source.clear().limit(playerCount * PLAYER_BYTES);
+                    newPlayersBuffer.put(source);
+                }
+                for (int n = 0; n < newPlayers.size(); n++) {
+                    int offset = (playerCount + n) * PLAYER_BYTES;
+                    newPlayersBuffer.putLong(offset, newPlayers.get(n).getMostSignificantBits());
+                    newPlayersBuffer.putLong(offset + 8, newPlayers.get(n).getLeastSignificantBits());
+                }
+            }
+
+            Index merged = new Index(newPlayersBuffer, newPlayerCount, skillIds);
+            merged.idsByUuid = newPlayers.isEmpty() ? idsByUuid : merged.mergeIdsByUuid(idsByUuid, playerCount, newPlayerCount);
+
+            BitSet updated = new BitSet(newPlayerCount);
+            for (int id : updateIds) {
+                updated.set(id);
+            }
+
+            Table[] mergedTables = new Table[tables.length];
+            int[] order = new int[updateCount];
+            int[] levels = new int[updateCount];
+            double[] experience = new double[updateCount];
+            for (int column = 0; column < tables.length; column++) {
+                for (int u = 0; u < updateCount; u++) {
+                    order[u] = u;
+                    if (column < skillIds.length) {
+                        levels[u] = snapshots[u].getSkillLevel(skillIds[column]);
+                        experience[u] = snapshots[u].getSkillExp(skillIds[column]);
+                    } else {
+                        levels[u] = snapshots[u].getTotalLevel();
+                        experience[u] = 0;
+                    }
+                }
+                sort(order, (a, b) -> merged.compare(levels[a], experience[a], updateIds[a],
+                        levels[b], experience[b], updateIds[b]));
+
+                Table target = Table.allocate(newPlayerCount, recycled != null ? recycled[column] : null);
+                mergedTables[column] = merged.mergeTable(tables[column], target, updated, order, updateIds, levels, experience);
+            }
+            merged.setTables(mergedTables);
+            return merged;
+        }
+
+        private Table mergeTable(Table old, Table table, BitSet updated, int[] order, int[] updateIds, int[] levels,
+                                 double[] experience) {
+            int position = 0;
+            int next = 0;
+            for (int oldPosition = 0; oldPosition < old.size; oldPosition++) {
+                int offset = oldPosition * ENTRY_BYTES;
+                int playerId = old.entries.getInt(offset);
+                if (updated.get(playerId)) {
+                    continue;
+                }
+
+                int level = old.entries.getInt(offset + 4);
+                double exp = old.entries.getDouble(offset + 8);
+                while (next < order.length) {
+                    int u = order[next];
+                    if (compare(levels[u], experience[u], updateIds[u], level, exp, playerId) >= 0) {
+                        break;
+                    }
+                    table.write(position++, updateIds[u], levels[u], experience[u]);
+                    next++;
+                }
+                table.write(position++, playerId, level, exp);
+            }
+            while (next < order.length) {
+                int u = order[next++];
+                table.write(position++, updateIds[u], levels[u], experience[u]);
+            }
+            return table;
+        }
+
+        private int[] mergeIdsByUuid(int[] oldIds, int oldCount, int newCount) {
+            int[] added = new int[newCount - oldCount];
+            for (int n = 0; n < added.length; n++) {
+                added[n] = oldCount + n;
+            }
+            sort(added, this::compareUuid);
+
+            int[] ids = new int[newCount];
+            int a = 0;
+            int b = 0;
+            for (int n = 0; n < newCount; n++) {
+                if (b >= added.length || (a < oldIds.length && compareUuid(oldIds[a], added[b]) < 0)) {
+                    ids[n] = oldIds[a++];
+                } else {
+                    ids[n] = added[b++];
+                }
+            }
+            return ids;
+        }
+    }
+
+    
+
+    private static class Table {
+        private final ByteBuffer entries;
+        private final int size;
+
+        private Table(ByteBuffer entries, int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        
+
+        private static Table allocate(int size, Table recycled) {
+            int bytes = Math.max(1, size) * ENTRY_BYTES;
+            if (recycled != null && recycled.entries.capacity() >= bytes) {
+                return new Table(recycled.entries, size);
+            }
+            return new Table(GlobalRankings.allocate(bytes), size);
+        }
+
+        private void write(int position, int playerId, int level, double experience) {
+            int offset = position * ENTRY_BYTES;
+            entries.putInt(offset, playerId);
+            entries.putInt(offset + 4, level);
+            entries.putDouble(offset + 8, experience);
+        }
+    }
+
+    
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes + bytes / 4);
+    }
+
+    private static int[] sortedByUuid(Index index, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i;
+        }
+        sort(ids, index::compareUuid);
+        return ids;
+    }
+
+    private interface IntComparator {
+        int compare(int a, int b);
+    }
+
+    
+
+    private static void sort(int[] values, IntComparator comparator) {
+        if (values.length < 2) {
+            return;
+        }
+        int[] buffer = Arrays.copyOf(values, values.length);
+        mergeSort(buffer, values, 0, values.length, comparator);
+    }
+
+    private static void mergeSort(int[] source, int[] target, int from, int to, IntComparator comparator) {
+        if (to - from < 16) {
+            for (int i = from + 1; i < to; i++) {
+                int value = target[i];
+                int j = i - 1;
+                while (j >= from && comparator.compare(target[j], value) > 0) {
+                    target[j + 1] = target[j];
+                    j--;
+                }
+                target[j + 1] = value;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(target, source, from, middle, comparator);
+        mergeSort(target, source, middle, to, comparator);
+
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && comparator.compare(source[left], source[right]) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+}
\ No newline at end of file
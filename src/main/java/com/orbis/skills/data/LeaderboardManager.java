@@ -0,0 +1,124 @@
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.util.RankedIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+
+public class LeaderboardManager implements PlayerData.SkillChangeListener {
+
+    private final OrbisSkills plugin;
+    private final RankedIndex totalIndex = new RankedIndex();
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+    private volatile RankedIndex[] skillIndexes = new RankedIndex[0];
+
+    public LeaderboardManager(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    
+
+    public void initialize() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
+            if (data != null) {
+                track(player, data);
+            }
+        }
+    }
+
+    
+
+    public void track(Player player, PlayerData data) {
+        UUID uuid = player.getUniqueId();
+        names.put(uuid, player.getName());
+
+        int count = plugin.getSkillManager().getSkillIdCount();
+        for (int id = 0; id < count; id++) {
+            getSkillIndex(id).update(uuid, data.getSkillLevel(id), data.getSkillExp(id));
+        }
+        totalIndex.update(uuid, data.getTotalLevel(), 0);
+        data.setChangeListener(this);
+    }
+
+    
+
+    public void untrack(UUID uuid) {
+        PlayerData data = plugin.getDataManager().getPlayerData(uuid);
+        if (data != null) {
+            data.setChangeListener(null);
+        }
+
+        for (RankedIndex index : skillIndexes) {
+            if (index != null) {
+                index.remove(uuid);
+            }
+        }
+        totalIndex.remove(uuid);
+        names.remove(uuid);
+    }
+
+    @Override
+    public void onSkillChanged(PlayerData data, int skillId) {
+        getSkillIndex(skillId).update(data.getUuid(), data.getSkillLevel(skillId), data.getSkillExp(skillId));
+        totalIndex.update(data.getUuid(), data.getTotalLevel(), 0);
+    }
+
+    
+
+    public RankedIndex getIndex(String skillName) {
+        if (skillName.equalsIgnoreCase("total")) {
+            return totalIndex;
+        }
+
+        int id = plugin.getSkillManager().getSkillId(skillName);
+        return id >= 0 ? getSkillIndex(id) : null;
+    }
+
+    
+
+    public String getName(UUID uuid) {
+        String name = names.get(uuid);
+        return name != null ? name : "";
+    }
+
+    public void clear() {
+        for (RankedIndex index : skillIndexes) {
+            if (index != null) {
+                index.clear();
+            }
+        }
+        totalIndex.clear();
+        names.clear();
+    }
+
+    private RankedIndex getSkillIndex(int skillId) {
+        RankedIndex[] indexes = skillIndexes;
+        if (skillId < indexes.length && indexes[skillId] != null) {
+            return indexes[skillId];
+        }
+        return createSkillIndex(skillId);
+    }
+
+    private synchronized RankedIndex createSkillIndex(int skillId) {
+        RankedIndex[] indexes = skillIndexes;
+        if (skillId < indexes.length && indexes[skillId] != null) {
+            return indexes[skillId];
+        }
+
+       
+
+        int size = Math.max(Math.max(indexes.length, skillId + 1), plugin.getSkillManager().getSkillIdCount());
+        indexes = Arrays.copyOf(indexes, size);
+        indexes[skillId] = new RankedIndex();
+        skillIndexes = indexes;
+        return indexes[skillId];
+    }
+}
\ No newline at end of file
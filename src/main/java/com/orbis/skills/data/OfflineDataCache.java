@@ -0,0 +1,147 @@
+package com.orbis.skills.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+
+public class OfflineDataCache {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlMillis;
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long estimatedBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public OfflineDataCache(int maxEntries, long maxBytes, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    
+
+    public synchronized PlayerData get(UUID uuid) {
+        Entry entry = entries.get(uuid);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        if (isExpired(entry, System.currentTimeMillis())) {
+            removeEntry(uuid);
+            expirations.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        return entry.data;
+    }
+
+    
+
+    public synchronized void put(UUID uuid, PlayerData data) {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        removeEntry(uuid);
+        Entry entry = new Entry(data, System.currentTimeMillis(), data.estimateSize());
+        entries.put(uuid, entry);
+        estimatedBytes += entry.size;
+
+       
+
+        Iterator<Map.Entry<UUID, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || estimatedBytes > maxBytes) && entries.size() > 1) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            estimatedBytes -= eldest.size;
+            evictions.incrementAndGet();
+        }
+    }
+
+    
+
+    public synchronized PlayerData remove(UUID uuid) {
+        Entry entry = removeEntry(uuid);
+        return entry != null ? entry.data : null;
+    }
+
+    
+
+    public synchronized void expireEntries() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (isExpired(entry, now)) {
+                iterator.remove();
+                estimatedBytes -= entry.size;
+                expirations.incrementAndGet();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        estimatedBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getExpirations() {
+        return expirations.get();
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlMillis > 0 && now - entry.cachedAt > ttlMillis;
+    }
+
+    private Entry removeEntry(UUID uuid) {
+        Entry entry = entries.remove(uuid);
+        if (entry != null) {
+            estimatedBytes -= entry.size;
+        }
+        return entry;
+    }
+
+    private static class Entry {
+        private final PlayerData data;
+        private final long cachedAt;
+        private final int size;
+
+        private Entry(PlayerData data, long cachedAt, int size) {
+            this.data = data;
+            this.cachedAt = cachedAt;
+            this.size = size;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.skills.CustomTrigger;
+import com.orbis.skills.skills.SkillManager;
+import com.orbis.skills.util.ExpSourceTable;
+import com.orbis.skills.util.IntHashSet;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+
+
+public class PlacedBlockTracker {
+
+    private final OrbisSkills plugin;
+    private final NamespacedKey key;
+    private final Map<UUID, Map<Long, ChunkBlocks>> worlds = new HashMap<>();
+    private final List<Block> pendingClears = new ArrayList<>();
+    private boolean clearScheduled = false;
+    private int miningId = -1;
+    private int woodcuttingId = -1;
+    private int farmingId = -1;
+
+    public PlacedBlockTracker(OrbisSkills plugin) {
+        this.plugin = plugin;
+        this.key = new NamespacedKey(plugin, "placed_blocks");
+    }
+
+    
+
+    public void initialize() {
+        SkillManager skills = plugin.getSkillManager();
+        miningId = skills.getSkillId("mining");
+        woodcuttingId = skills.getSkillId("woodcutting");
+        farmingId = skills.getSkillId("farming");
+
+        for (World world : Bukkit.getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                loadChunk(chunk);
+            }
+        }
+    }
+
+    
+
+    public void loadChunk(Chunk chunk) {
+        int[] packed = chunk.getPersistentDataContainer().get(key, PersistentDataType.INTEGER_ARRAY);
+        if (packed == null || packed.length == 0) {
+            return;
+        }
+
+        worlds.computeIfAbsent(chunk.getWorld().getUID(), uuid -> new HashMap<>())
+                .put(chunk.getChunkKey(), new ChunkBlocks(IntHashSet.of(packed)));
+    }
+
+    
+
+    public void unloadChunk(Chunk chunk) {
+        flushClears();
+
+        Map<Long, ChunkBlocks> chunks = worlds.get(chunk.getWorld().getUID());
+        if (chunks == null) {
+            return;
+        }
+
+        ChunkBlocks blocks = chunks.remove(chunk.getChunkKey());
+        if (blocks != null) {
+            saveChunk(chunk, blocks);
+        }
+        if (chunks.isEmpty()) {
+            worlds.remove(chunk.getWorld().getUID());
+        }
+    }
+
+    
+
+    public void saveWorld(World world) {
+        flushClears();
+
+        Map<Long, ChunkBlocks> chunks = worlds.get(world.getUID());
+        if (chunks == null) {
+            return;
+        }
+
+        Iterator<Map.Entry<Long, ChunkBlocks>> iterator = chunks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, ChunkBlocks> entry = iterator.next();
+            saveChunk(world.getChunkAt(entry.getKey()), entry.getValue());
+            if (entry.getValue().positions.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public void saveAll() {
+        for (World world : Bukkit.getWorlds()) {
+            saveWorld(world);
+        }
+        worlds.clear();
+    }
+
+    
+
+    public boolean isPlaced(Block block) {
+        if (!plugin.getConfigManager().getSettings().isTrackPlacedBlocks()) {
+            return false;
+        }
+
+        ChunkBlocks blocks = getChunkBlocks(block, false);
+        return blocks != null && blocks.positions.contains(pack(block));
+    }
+
+    
+
+    public boolean isTracked(Material type) {
+        ExpSourceTable<Material> blocks = plugin.getSkillManager().getExpSources().getBlocks();
+        if (blocks.has(type, miningId) || blocks.has(type, woodcuttingId)) {
+            return true;
+        }
+
+       
+
+        return plugin.getCustomSkillManager().hasTrigger(CustomTrigger.BREAK, type)
+                && !Tag.CROPS.isTagged(type) && !blocks.has(type, farmingId);
+    }
+
+    public void mark(Block block) {
+        if (!plugin.getConfigManager().getSettings().isTrackPlacedBlocks()) {
+            return;
+        }
+
+        ChunkBlocks blocks = getChunkBlocks(block, true);
+        if (blocks.positions.add(pack(block))) {
+            blocks.dirty = true;
+        }
+    }
+
+    public void unmark(Block block) {
+        ChunkBlocks blocks = getChunkBlocks(block, false);
+        if (blocks != null && blocks.positions.remove(pack(block))) {
+            blocks.dirty = true;
+        }
+    }
+
+    
+
+    public void unmarkLater(Block block) {
+        pendingClears.add(block);
+        if (!clearScheduled && plugin.isEnabled()) {
+            clearScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flushClears);
+        }
+    }
+
+    private void flushClears() {
+        clearScheduled = false;
+        for (Block block : pendingClears) {
+            unmark(block);
+        }
+        pendingClears.clear();
+    }
+
+    private ChunkBlocks getChunkBlocks(Block block, boolean create) {
+        long chunkKey = Chunk.getChunkKey(block.getX() >> 4, block.getZ() >> 4);
+        Map<Long, ChunkBlocks> chunks = worlds.get(block.getWorld().getUID());
+        if (!create) {
+            return chunks != null ? chunks.get(chunkKey) : null;
+        }
+
+        if (chunks == null) {
+            chunks = new HashMap<>();
+            worlds.put(block.getWorld().getUID(), chunks);
+        }
+        return chunks.computeIfAbsent(chunkKey, k -> new ChunkBlocks(new IntHashSet()));
+    }
+
+    private void saveChunk(Chunk chunk, ChunkBlocks blocks) {
+        if (!blocks.dirty) {
+            return;
+        }
+
+        PersistentDataContainer container = chunk.getPersistentDataContainer();
+        if (blocks.positions.isEmpty()) {
+            container.remove(key);
+        } else {
+            container.set(key, PersistentDataType.INTEGER_ARRAY, blocks.positions.toArray());
+        }
+        blocks.dirty = false;
+    }
+
+   
+
+    private static int pack(Block block) {
+        return ((block.getY() - block.getWorld().getMinHeight()) << 8) | ((block.getZ() & 15) << 4) | (block.getX() & 15);
+    }
+
+    private static class ChunkBlocks {
+        private final IntHashSet positions;
+        private boolean dirty = false;
+
+        private ChunkBlocks(IntHashSet positions) {
+            this.positions = positions;
+        }
+    }
+}
\ No newline at end of file
@@ -1,211 +1,355 @@
-package com.orbis.skills.data;
-
-import com.orbis.skills.OrbisSkills;
-import com.orbis.skills.skills.Skill;
-import com.orbis.skills.util.ExperienceUtil;
-import org.bukkit.configuration.serialization.ConfigurationSerializable;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
-public class PlayerData implements ConfigurationSerializable {
-
-    private final UUID uuid;
-    private final Map<String, Integer> skillLevels = new HashMap<>();
-    private final Map<String, Double> skillExperience = new HashMap<>();
-    private boolean dirty = false;
-
-    
-
-    public PlayerData(UUID uuid) {
-        this.uuid = uuid;
-    }
-
-    
-
-    public PlayerData(UUID uuid, Map<String, Object> map) {
-        this.uuid = uuid;
-
-       
-
-        Object levelsObj = map.get("levels");
-        if (levelsObj instanceof Map) {
-            Map<?, ?> levelsMap = (Map<?, ?>) levelsObj;
-            for (Map.Entry<?, ?> entry : levelsMap.entrySet()) {
-                if (entry.getKey() instanceof String && entry.getValue() instanceof Integer) {
-                    skillLevels.put((String) entry.getKey(), (Integer) entry.getValue());
-                }
-            }
-        }
-
-       
-
-        Object expObj = map.get("experience");
-        if (expObj instanceof Map) {
-            Map<?, ?> expMap = (Map<?, ?>) expObj;
-            for (Map.Entry<?, ?> entry : expMap.entrySet()) {
-                if (entry.getKey() instanceof String &&
-                        (entry.getValue() instanceof Double || entry.getValue() instanceof Integer)) {
-                    if (entry.getValue() instanceof Integer) {
-                        skillExperience.put((String) entry.getKey(), ((Integer) entry.getValue()).doubleValue());
-                    } else {
-                        skillExperience.put((String) entry.getKey(), (Double) entry.getValue());
-                    }
-                }
-            }
-        }
-    }
-
-    
-
-    public UUID getUuid() {
-        return uuid;
-    }
-
-    
-
-    public int getSkillLevel(String skillName) {
-        return skillLevels.getOrDefault(skillName.toLowerCase(), 0);
-    }
-
-    
-
-    public double getSkillExp(String skillName) {
-        return skillExperience.getOrDefault(skillName.toLowerCase(), 0.0);
-    }
-
-    
-
-    public double getExpToNextLevel(String skillName) {
-        int currentLevel = getSkillLevel(skillName);
-        double currentExp = getSkillExp(skillName);
-
-        return ExperienceUtil.getExpToNextLevel(currentLevel) - currentExp;
-    }
-
-    
-
-    public double getLevelProgress(String skillName) {
-        int currentLevel = getSkillLevel(skillName);
-        double currentExp = getSkillExp(skillName);
-        double expNeeded = ExperienceUtil.getExpToNextLevel(currentLevel);
-
-        if (expNeeded <= 0) {
-            return 1.0;
-        }
-
-        return Math.min(1.0, currentExp / expNeeded);
-    }
-
-    
-
-    public String getSkillRank(String skillName) {
-        int level = getSkillLevel(skillName);
-
-        if (level >= 90) return "Master";
-        if (level >= 75) return "Expert";
-        if (level >= 50) return "Adept";
-        if (level >= 25) return "Skilled";
-        if (level >= 10) return "Apprentice";
-        return "Novice";
-    }
-
-    
-
-    public void setSkillLevel(String skillName, int level) {
-        skillLevels.put(skillName.toLowerCase(), Math.max(0, level));
-        setDirty(true);
-    }
-
-    
-
-    public void setSkillExp(String skillName, double experience) {
-        skillExperience.put(skillName.toLowerCase(), Math.max(0, experience));
-        setDirty(true);
-    }
-
-    
-
-    public boolean addSkillExp(String skillName, double amount) {
-        String key = skillName.toLowerCase();
-        int oldLevel = getSkillLevel(key);
-        double newExp = getSkillExp(key) + amount;
-
-       
-
-        int newLevel = oldLevel;
-        while (newExp >= ExperienceUtil.getExpToNextLevel(newLevel)) {
-            newExp -= ExperienceUtil.getExpToNextLevel(newLevel);
-            newLevel++;
-        }
-
-       
-
-        skillExperience.put(key, newExp);
-        skillLevels.put(key, newLevel);
-        setDirty(true);
-
-        return newLevel > oldLevel;
-    }
-
-    
-
-    public void resetSkill(String skillName) {
-        String key = skillName.toLowerCase();
-        skillLevels.put(key, 0);
-        skillExperience.put(key, 0.0);
-        setDirty(true);
-    }
-
-    
-
-    public void resetAllSkills() {
-        for (String key : skillLevels.keySet()) {
-            skillLevels.put(key, 0);
-            skillExperience.put(key, 0.0);
-        }
-        setDirty(true);
-    }
-
-    
-
-    public int getTotalLevel() {
-        int total = 0;
-        for (int level : skillLevels.values()) {
-            total += level;
-        }
-        return total;
-    }
-
-    
-
-    public boolean isDirty() {
-        return dirty;
-    }
-
-    
-
-    public void setDirty(boolean dirty) {
-        this.dirty = dirty;
-    }
-
-    
-
-    public void initializeSkill(String skillName) {
-        String key = skillName.toLowerCase();
-        if (!skillLevels.containsKey(key)) {
-            skillLevels.put(key, 0);
-            skillExperience.put(key, 0.0);
-            setDirty(true);
-        }
-    }
-
-    @Override
-    public Map<String, Object> serialize() {
-        Map<String, Object> result = new HashMap<>();
-        result.put("levels", new HashMap<>(skillLevels));
-        result.put("experience", new HashMap<>(skillExperience));
-        return result;
-    }
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.skills.SkillManager;
+import com.orbis.skills.util.ExperienceUtil;
+import com.orbis.skills.util.LevelCurve;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class PlayerData implements ConfigurationSerializable {
+
+    private final UUID uuid;
+    private int[] skillLevels;
+    private double[] skillExperience;
+    private final BitSet knownSkills = new BitSet();
+    private final BitSet dirtySkills = new BitSet();
+    private int totalLevel = 0;
+    private long version = 0;
+    private volatile PlayerDataSnapshot snapshot;
+    private SkillChangeListener changeListener;
+
+    
+
+    public PlayerData(UUID uuid) {
+        this.uuid = uuid;
+        int size = skills().getSkillIdCount();
+        this.skillLevels = new int[size];
+        this.skillExperience = new double[size];
+    }
+
+    
+
+    public PlayerData(UUID uuid, Map<String, Object> map) {
+        this(uuid);
+        SkillManager skills = skills();
+
+       
+
+        Object levelsObj = map.get("levels");
+        if (levelsObj instanceof Map) {
+            Map<?, ?> levelsMap = (Map<?, ?>) levelsObj;
+            for (Map.Entry<?, ?> entry : levelsMap.entrySet()) {
+                if (entry.getKey() instanceof String && entry.getValue() instanceof Integer) {
+                    putLevel(skills.getOrCreateSkillId((String) entry.getKey()), (Integer) entry.getValue());
+                }
+            }
+        }
+
+       
+
+        Object expObj = map.get("experience");
+        if (expObj instanceof Map) {
+            Map<?, ?> expMap = (Map<?, ?>) expObj;
+            for (Map.Entry<?, ?> entry : expMap.entrySet()) {
+                if (entry.getKey() instanceof String &&
+                        (entry.getValue() instanceof Double || entry.getValue() instanceof Integer)) {
+                    int id = skills.getOrCreateSkillId((String) entry.getKey());
+                    if (entry.getValue() instanceof Integer) {
+                        putExp(id, ((Integer) entry.getValue()).doubleValue());
+                    } else {
+                        putExp(id, (Double) entry.getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    
+
+    public int getSkillLevel(int skillId) {
+        return skillId >= 0 && skillId < skillLevels.length ? skillLevels[skillId] : 0;
+    }
+
+    
+
+    public double getSkillExp(int skillId) {
+        return skillId >= 0 && skillId < skillExperience.length ? skillExperience[skillId] : 0.0;
+    }
+
+    
+
+    public int getSkillLevel(String skillName) {
+        return getSkillLevel(skills().getSkillId(skillName));
+    }
+
+    
+
+    public double getSkillExp(String skillName) {
+        return getSkillExp(skills().getSkillId(skillName));
+    }
+
+    
+
+    public double getExpToNextLevel(String skillName) {
+        int currentLevel = getSkillLevel(skillName);
+        double currentExp = getSkillExp(skillName);
+
+        return ExperienceUtil.getCurve(skillName).getExpToNextLevel(currentLevel) - currentExp;
+    }
+
+    
+
+    public double getLevelProgress(String skillName) {
+        int currentLevel = getSkillLevel(skillName);
+        double currentExp = getSkillExp(skillName);
+        double expNeeded = ExperienceUtil.getCurve(skillName).getExpToNextLevel(currentLevel);
+
+        if (expNeeded <= 0) {
+            return 1.0;
+        }
+
+        return Math.min(1.0, currentExp / expNeeded);
+    }
+
+    
+
+    public String getSkillRank(String skillName) {
+        return getRankForLevel(getSkillLevel(skillName));
+    }
+
+    
+
+    public static String getRankForLevel(int level) {
+        if (level >= 90) return "Master";
+        if (level >= 75) return "Expert";
+        if (level >= 50) return "Adept";
+        if (level >= 25) return "Skilled";
+        if (level >= 10) return "Apprentice";
+        return "Novice";
+    }
+
+    
+
+    public void setSkillLevel(int skillId, int level) {
+        putLevel(skillId, Math.max(0, level));
+        markDirty(skillId);
+    }
+
+    
+
+    public void setSkillExp(int skillId, double experience) {
+        putExp(skillId, Math.max(0, experience));
+        markDirty(skillId);
+    }
+
+    
+
+    public void setSkillLevel(String skillName, int level) {
+        setSkillLevel(skills().getOrCreateSkillId(skillName), level);
+    }
+
+    
+
+    public void setSkillExp(String skillName, double experience) {
+        setSkillExp(skills().getOrCreateSkillId(skillName), experience);
+    }
+
+    
+
+    public boolean addSkillExp(int skillId, double amount) {
+        LevelCurve curve = ExperienceUtil.getCurve(skillId);
+        int oldLevel = getSkillLevel(skillId);
+        if (oldLevel >= curve.getMaxLevel()) {
+            return false;
+        }
+
+       
+
+        double total = Math.max(0, curve.getTotalExpToLevel(oldLevel) + getSkillExp(skillId) + amount);
+        int newLevel = Math.max(oldLevel, curve.getLevelForExp(total));
+        double newExp = newLevel >= curve.getMaxLevel() ? 0 : total - curve.getTotalExpToLevel(newLevel);
+
+       
+
+        putExp(skillId, newExp);
+        putLevel(skillId, newLevel);
+        markDirty(skillId);
+
+        return newLevel > oldLevel;
+    }
+
+    
+
+    public boolean addSkillExp(String skillName, double amount) {
+        return addSkillExp(skills().getOrCreateSkillId(skillName), amount);
+    }
+
+    
+
+    public void resetSkill(String skillName) {
+        int id = skills().getOrCreateSkillId(skillName);
+        putLevel(id, 0);
+        putExp(id, 0.0);
+        markDirty(id);
+    }
+
+    
+
+    public void resetAllSkills() {
+        for (int id = knownSkills.nextSetBit(0); id >= 0; id = knownSkills.nextSetBit(id + 1)) {
+            putLevel(id, 0);
+            putExp(id, 0.0);
+        }
+        setDirty(true);
+        version++;
+        if (changeListener != null) {
+            for (int id = knownSkills.nextSetBit(0); id >= 0; id = knownSkills.nextSetBit(id + 1)) {
+                changeListener.onSkillChanged(this, id);
+            }
+        }
+    }
+
+    
+
+    public int getTotalLevel() {
+        return totalLevel;
+    }
+
+    
+
+    public boolean isDirty() {
+        return !dirtySkills.isEmpty();
+    }
+
+    
+
+    public void setDirty(boolean dirty) {
+        if (dirty) {
+            dirtySkills.or(knownSkills);
+        } else {
+            dirtySkills.clear();
+        }
+    }
+
+    
+
+    public boolean isSkillDirty(String skillName) {
+        int id = skills().getSkillId(skillName);
+        return id >= 0 && dirtySkills.get(id);
+    }
+
+    
+
+    public int estimateSize() {
+        int arrays = 32 + skillLevels.length * (Integer.BYTES + Double.BYTES);
+        int bitSets = 2 * (40 + Long.BYTES * ((skillLevels.length + 63) / 64));
+        return 128 + 2 * arrays + bitSets;
+    }
+
+    private void markDirty(int skillId) {
+        dirtySkills.set(skillId);
+        version++;
+        if (changeListener != null) {
+            changeListener.onSkillChanged(this, skillId);
+        }
+    }
+
+    
+
+    void setChangeListener(SkillChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void putLevel(int skillId, int level) {
+        ensureCapacity(skillId);
+        totalLevel += level - skillLevels[skillId];
+        skillLevels[skillId] = level;
+        knownSkills.set(skillId);
+    }
+
+    private void putExp(int skillId, double experience) {
+        ensureCapacity(skillId);
+        skillExperience[skillId] = experience;
+        knownSkills.set(skillId);
+    }
+
+    
+
+    private void ensureCapacity(int skillId) {
+        if (skillId < skillLevels.length) {
+            return;
+        }
+
+        int size = Math.max(skillId + 1, skills().getSkillIdCount());
+        skillLevels = Arrays.copyOf(skillLevels, size);
+        skillExperience = Arrays.copyOf(skillExperience, size);
+    }
+
+    
+
+    public PlayerDataSnapshot getSnapshot() {
+        PlayerDataSnapshot current = snapshot;
+        return current != null ? current : new PlayerDataSnapshot(uuid, -1, new int[0], new double[0], new BitSet(), new BitSet());
+    }
+
+    
+
+    public PlayerDataSnapshot publishSnapshot() {
+        PlayerDataSnapshot current = snapshot;
+        if (current == null || current.getVersion() != version) {
+            current = new PlayerDataSnapshot(uuid, version, skillLevels, skillExperience, knownSkills, new BitSet());
+            snapshot = current;
+        }
+        return current;
+    }
+
+    
+
+    public PlayerDataSnapshot captureChanges() {
+        PlayerDataSnapshot current = new PlayerDataSnapshot(uuid, version, skillLevels, skillExperience, knownSkills, dirtySkills);
+        dirtySkills.clear();
+        snapshot = current;
+        return current;
+    }
+
+    
+
+    public void initializeSkill(String skillName) {
+        int id = skills().getOrCreateSkillId(skillName);
+        if (!knownSkills.get(id)) {
+            putLevel(id, 0);
+            putExp(id, 0.0);
+            markDirty(id);
+        }
+    }
+
+    @Override
+    public Map<String, Object> serialize() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("levels", PlayerDataSnapshot.toNameMap(skillLevels, knownSkills));
+        result.put("experience", PlayerDataSnapshot.toNameMap(skillExperience, knownSkills));
+        return result;
+    }
+
+    static SkillManager skills() {
+        return OrbisSkills.getInstance().getSkillManager();
+    }
+
+    
+
+    interface SkillChangeListener {
+        void onSkillChanged(PlayerData data, int skillId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.orbis.skills.data;
+
+import com.orbis.skills.skills.SkillManager;
+import com.orbis.skills.util.ExperienceUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+
+
+public class PlayerDataSnapshot {
+
+    private final UUID uuid;
+    private final long version;
+    private final int[] skillLevels;
+    private final double[] skillExperience;
+    private final BitSet knownSkills;
+    private final BitSet changedSkills;
+    private final int totalLevel;
+
+    
+
+    PlayerDataSnapshot(UUID uuid, long version, int[] skillLevels, double[] skillExperience,
+                       BitSet knownSkills, BitSet changedSkills) {
+        this.uuid = uuid;
+        this.version = version;
+        this.skillLevels = Arrays.copyOf(skillLevels, skillLevels.length);
+        this.skillExperience = Arrays.copyOf(skillExperience, skillExperience.length);
+        this.knownSkills = (BitSet) knownSkills.clone();
+        this.changedSkills = (BitSet) changedSkills.clone();
+
+        int total = 0;
+        for (int level : this.skillLevels) {
+            total += level;
+        }
+        this.totalLevel = total;
+    }
+
+    
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    
+
+    public long getVersion() {
+        return version;
+    }
+
+    
+
+    public int getSkillLevel(int skillId) {
+        return skillId >= 0 && skillId < skillLevels.length ? skillLevels[skillId] : 0;
+    }
+
+    
+
+    public double getSkillExp(int skillId) {
+        return skillId >= 0 && skillId < skillExperience.length ? skillExperience[skillId] : 0.0;
+    }
+
+    
+
+    public int getSkillLevel(String skillName) {
+        return getSkillLevel(PlayerData.skills().getSkillId(skillName));
+    }
+
+    
+
+    public double getSkillExp(String skillName) {
+        return getSkillExp(PlayerData.skills().getSkillId(skillName));
+    }
+
+    
+
+    public double getExpToNextLevel(String skillName) {
+        return ExperienceUtil.getCurve(skillName).getExpToNextLevel(getSkillLevel(skillName)) - getSkillExp(skillName);
+    }
+
+    
+
+    public double getLevelProgress(String skillName) {
+        double expNeeded = ExperienceUtil.getCurve(skillName).getExpToNextLevel(getSkillLevel(skillName));
+        if (expNeeded <= 0) {
+            return 1.0;
+        }
+
+        return Math.min(1.0, getSkillExp(skillName) / expNeeded);
+    }
+
+    
+
+    public String getSkillRank(String skillName) {
+        return PlayerData.getRankForLevel(getSkillLevel(skillName));
+    }
+
+    
+
+    public int getTotalLevel() {
+        return totalLevel;
+    }
+
+    
+
+    public boolean hasChanges() {
+        return !changedSkills.isEmpty();
+    }
+
+    
+
+    public List<SkillRecord> getChangedRecords() {
+        SkillManager skills = PlayerData.skills();
+        List<SkillRecord> records = new ArrayList<>(changedSkills.cardinality());
+        for (int id = changedSkills.nextSetBit(0); id >= 0; id = changedSkills.nextSetBit(id + 1)) {
+            records.add(new SkillRecord(skills.getSkillName(id), getSkillLevel(id), getSkillExp(id)));
+        }
+        return records;
+    }
+
+    
+
+    public Map<String, Object> serialize() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("levels", toNameMap(skillLevels, knownSkills));
+        result.put("experience", toNameMap(skillExperience, knownSkills));
+        return result;
+    }
+
+    static Map<String, Integer> toNameMap(int[] values, BitSet ids) {
+        SkillManager skills = PlayerData.skills();
+        Map<String, Integer> map = new HashMap<>();
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            map.put(skills.getSkillName(id), id < values.length ? values[id] : 0);
+        }
+        return map;
+    }
+
+    static Map<String, Double> toNameMap(double[] values, BitSet ids) {
+        SkillManager skills = PlayerData.skills();
+        Map<String, Double> map = new HashMap<>();
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            map.put(skills.getSkillName(id), id < values.length ? values[id] : 0.0);
+        }
+        return map;
+    }
+}
\ No newline at end of file
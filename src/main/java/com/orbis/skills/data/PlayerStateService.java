@@ -0,0 +1,186 @@
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.util.TimingWheel;
+import org.bukkit.Bukkit;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+
+
+public class PlayerStateService {
+
+    private static final long RESOLUTION_MILLIS = 50;
+
+    private final OrbisSkills plugin;
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Map<UUID, PlayerState> states = new HashMap<>();
+    private final TimingWheel<Expiry> wheel;
+
+    public PlayerStateService(OrbisSkills plugin) {
+        this.plugin = plugin;
+        this.wheel = new TimingWheel<>(toTick(System.currentTimeMillis()));
+    }
+
+    
+
+    public void start() {
+        Bukkit.getScheduler().runTaskTimer(plugin,
+                () -> wheel.advance(toTick(System.currentTimeMillis()), this::expire), 1L, 1L);
+    }
+
+    
+
+    public int slot(String key) {
+        return slots.computeIfAbsent(key.toLowerCase(), k -> slots.size());
+    }
+
+    
+
+    public void set(UUID uuid, int slot, long durationMillis) {
+        set(uuid, slot, Boolean.TRUE, durationMillis);
+    }
+
+    
+
+    public void set(UUID uuid, int slot, Object value, long durationMillis) {
+        long expiresAt = System.currentTimeMillis() + durationMillis;
+        PlayerState state = states.computeIfAbsent(uuid, PlayerState::new);
+        state.ensureCapacity(slot);
+
+        if (state.values[slot] == null) {
+            state.active++;
+        }
+        state.values[slot] = value;
+        state.expiresAt[slot] = expiresAt;
+
+       
+
+        long scheduled = state.scheduledAt[slot];
+        if (scheduled == 0 || expiresAt < scheduled) {
+            state.scheduledAt[slot] = expiresAt;
+            wheel.schedule(toTick(expiresAt) + 1, new Expiry(state, slot));
+        }
+    }
+
+    
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(UUID uuid, int slot) {
+        PlayerState state = states.get(uuid);
+        if (state == null || slot >= state.values.length || state.values[slot] == null) {
+            return null;
+        }
+        if (state.expiresAt[slot] <= System.currentTimeMillis()) {
+            return null;
+        }
+        return (T) state.values[slot];
+    }
+
+    public boolean isActive(UUID uuid, int slot) {
+        return get(uuid, slot) != null;
+    }
+
+    
+
+    public long getRemaining(UUID uuid, int slot) {
+        PlayerState state = states.get(uuid);
+        if (state == null || slot >= state.values.length || state.values[slot] == null) {
+            return 0;
+        }
+        return Math.max(0, state.expiresAt[slot] - System.currentTimeMillis());
+    }
+
+    public void remove(UUID uuid, int slot) {
+        PlayerState state = states.get(uuid);
+        if (state != null && slot < state.values.length && state.values[slot] != null) {
+            state.clear(slot);
+            if (state.active == 0) {
+                states.remove(uuid);
+            }
+        }
+    }
+
+    
+
+    public void clear(UUID uuid) {
+        PlayerState state = states.remove(uuid);
+        if (state != null) {
+           
+
+            state.removed = true;
+        }
+    }
+
+    private void expire(Expiry expiry) {
+        PlayerState state = expiry.state;
+        int slot = expiry.slot;
+        if (state.removed || state.values[slot] == null) {
+            state.scheduledAt[slot] = 0;
+            return;
+        }
+
+        long expiresAt = state.expiresAt[slot];
+        if (expiresAt > System.currentTimeMillis()) {
+           
+
+            state.scheduledAt[slot] = expiresAt;
+            wheel.schedule(toTick(expiresAt) + 1, expiry);
+            return;
+        }
+
+        state.clear(slot);
+        state.scheduledAt[slot] = 0;
+        if (state.active == 0) {
+            states.remove(state.uuid);
+            state.removed = true;
+        }
+    }
+
+    private static long toTick(long millis) {
+        return millis / RESOLUTION_MILLIS;
+    }
+
+    private static class PlayerState {
+        private final UUID uuid;
+        private Object[] values = new Object[4];
+        private long[] expiresAt = new long[4];
+        private long[] scheduledAt = new long[4];
+        private int active = 0;
+        private boolean removed = false;
+
+        private PlayerState(UUID uuid) {
+            this.uuid = uuid;
+        }
+
+        private void ensureCapacity(int slot) {
+            if (slot < values.length) {
+                return;
+            }
+
+            int capacity = Math.max(slot + 1, values.length * 2);
+            values = Arrays.copyOf(values, capacity);
+            expiresAt = Arrays.copyOf(expiresAt, capacity);
+            scheduledAt = Arrays.copyOf(scheduledAt, capacity);
+        }
+
+        private void clear(int slot) {
+            values[slot] = null;
+            expiresAt[slot] = 0;
+            active--;
+        }
+    }
+
+    private static class Expiry {
+        private final PlayerState state;
+        private final int slot;
+
+        private Expiry(PlayerState state, int slot) {
+            this.state = state;
+            this.slot = slot;
+        }
+    }
+}
\ No newline at end of file
@@ -1,244 +1,688 @@
-package com.orbis.skills.data;
-
-import com.orbis.skills.OrbisSkills;
-import org.bukkit.configuration.ConfigurationSection;
-
-import java.sql.*;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.logging.Level;
-
-public class SQLStorage implements Storage {
-
-    private final OrbisSkills plugin;
-    private final boolean useMySql;
-    private final ExecutorService executor;
-    private Connection connection;
-
-    private final String host;
-    private final int port;
-    private final String database;
-    private final String username;
-    private final String password;
-    private final String tablePrefix;
-    private final String sqliteFile;
-
-    
-
-    public SQLStorage(OrbisSkills plugin) {
-        this.plugin = plugin;
-
-       
-
-        ConfigurationSection config = plugin.getConfig().getConfigurationSection("storage");
-        String type = config.getString("type", "sqlite").toLowerCase();
-        this.useMySql = type.equals("mysql");
-
-        if (useMySql) {
-            ConfigurationSection mysqlConfig = config.getConfigurationSection("mysql");
-            this.host = mysqlConfig.getString("host", "localhost");
-            this.port = mysqlConfig.getInt("port", 3306);
-            this.database = mysqlConfig.getString("database", "orbisskills");
-            this.username = mysqlConfig.getString("username", "root");
-            this.password = mysqlConfig.getString("password", "password");
-            this.tablePrefix = mysqlConfig.getString("table-prefix", "orbisskills_");
-            this.sqliteFile = null;
-        } else {
-            ConfigurationSection sqliteConfig = config.getConfigurationSection("sqlite");
-            this.host = null;
-            this.port = 0;
-            this.database = null;
-            this.username = null;
-            this.password = null;
-            this.tablePrefix = "orbisskills_";
-            this.sqliteFile = sqliteConfig.getString("file", "database.db");
-        }
-
-        this.executor = Executors.newSingleThreadExecutor();
-    }
-
-    @Override
-    public void initialize() {
-        try {
-           
-
-            connect();
-
-           
-
-            createTables();
-
-            plugin.getLogger().info("Connected to " + (useMySql ? "MySQL" : "SQLite") + " database!");
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to initialize database", e);
-        }
-    }
-
-    
-
-    private void connect() throws SQLException {
-        if (connection != null && !connection.isClosed()) {
-            return;
-        }
-
-        if (useMySql) {
-           
-
-            String url = "jdbc:mysql://" + host + ":" + port + "/" + database +
-                    "?useSSL=false&autoReconnect=true";
-            connection = DriverManager.getConnection(url, username, password);
-        } else {
-           
-
-            String url = "jdbc:sqlite:" + new java.io.File(plugin.getDataFolder(), sqliteFile);
-            connection = DriverManager.getConnection(url);
-        }
-    }
-
-    
-
-    private void createTables() throws SQLException {
-        String skillsTable = "CREATE TABLE IF NOT EXISTS " + tablePrefix + "skills (" +
-                "uuid VARCHAR(36) NOT NULL, " +
-                "skill VARCHAR(32) NOT NULL, " +
-                "level INT NOT NULL DEFAULT 0, " +
-                "experience DOUBLE NOT NULL DEFAULT 0, " +
-                "PRIMARY KEY (uuid, skill)" +
-                ");";
-
-        try (Statement statement = connection.createStatement()) {
-            statement.execute(skillsTable);
-        }
-    }
-
-    @Override
-    public PlayerData loadPlayerData(UUID uuid) {
-        Map<String, Object> data = new HashMap<>();
-        Map<String, Integer> levels = new HashMap<>();
-        Map<String, Double> experience = new HashMap<>();
-
-        try {
-           
-
-            connect();
-
-           
-
-            String query = "SELECT skill, level, experience FROM " + tablePrefix + "skills " +
-                    "WHERE uuid = ?;";
-
-            try (PreparedStatement statement = connection.prepareStatement(query)) {
-                statement.setString(1, uuid.toString());
-
-                try (ResultSet results = statement.executeQuery()) {
-                    while (results.next()) {
-                        String skill = results.getString("skill");
-                        int level = results.getInt("level");
-                        double exp = results.getDouble("experience");
-
-                        levels.put(skill, level);
-                        experience.put(skill, exp);
-                    }
-                }
-            }
-
-           
-
-            data.put("levels", levels);
-            data.put("experience", experience);
-
-           
-
-            return new PlayerData(uuid, data);
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uuid, e);
-            return new PlayerData(uuid);
-        }
-    }
-
-    @Override
-    public void savePlayerData(PlayerData data) {
-       
-
-        executor.submit(() -> savePlayerDataSync(data));
-    }
-
-    
-
-    private void savePlayerDataSync(PlayerData data) {
-        try {
-           
-
-            connect();
-
-           
-
-            String query = "INSERT INTO " + tablePrefix + "skills (uuid, skill, level, experience) " +
-                    "VALUES (?, ?, ?, ?) " +
-                    "ON " + (useMySql ? "DUPLICATE KEY" : "CONFLICT") + " UPDATE " +
-                    "level = VALUES(level), experience = VALUES(experience);";
-
-           
-
-            Map<String, Object> serialized = data.serialize();
-            Map<?, ?> levels = (Map<?, ?>) serialized.get("levels");
-            Map<?, ?> experience = (Map<?, ?>) serialized.get("experience");
-
-           
-
-            try (PreparedStatement statement = connection.prepareStatement(query)) {
-                for (Map.Entry<?, ?> entry : levels.entrySet()) {
-                    if (entry.getKey() instanceof String && entry.getValue() instanceof Integer) {
-                        String skill = (String) entry.getKey();
-                        int level = (Integer) entry.getValue();
-                        double exp = 0.0;
-
-                       
-
-                        Object expObj = experience.get(skill);
-                        if (expObj instanceof Number) {
-                            exp = ((Number) expObj).doubleValue();
-                        }
-
-                       
-
-                        statement.setString(1, data.getUuid().toString());
-                        statement.setString(2, skill);
-                        statement.setInt(3, level);
-                        statement.setDouble(4, exp);
-
-                       
-
-                        statement.executeUpdate();
-                    }
-                }
-            }
-
-           
-
-            data.setDirty(false);
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save player data for " + data.getUuid(), e);
-        }
-    }
-
-    @Override
-    public void close() {
-       
-
-        executor.shutdown();
-
-       
-
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to close database connection", e);
-        }
-    }
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+public class SQLStorage implements Storage {
+
+    private static final int SCAN_PAGE_SIZE = 10000;
+
+    private final OrbisSkills plugin;
+    private final boolean useMySql;
+    private final ScheduledExecutorService[] writers;
+    private final WriteQueue[] writeQueues;
+    private final ExecutorService readers;
+    private HikariDataSource dataSource;
+
+    private final String host;
+    private final int port;
+    private final String database;
+    private final String username;
+    private final String password;
+    private final String tablePrefix;
+    private final String sqliteFile;
+
+    private final int maximumPoolSize;
+    private final int minimumIdle;
+    private final long connectionTimeout;
+    private final long idleTimeout;
+    private final long maxLifetime;
+    private final long keepaliveTime;
+    private final long validationTimeout;
+    private final int shutdownTimeout;
+    private final int batchSize;
+    private final long lingerMillis;
+
+    
+
+    public SQLStorage(OrbisSkills plugin) {
+        this.plugin = plugin;
+
+       
+
+        ConfigurationSection config = plugin.getConfig().getConfigurationSection("storage");
+        String type = config.getString("type", "sqlite").toLowerCase();
+        this.useMySql = type.equals("mysql");
+
+        if (useMySql) {
+            ConfigurationSection mysqlConfig = config.getConfigurationSection("mysql");
+            this.host = mysqlConfig.getString("host", "localhost");
+            this.port = mysqlConfig.getInt("port", 3306);
+            this.database = mysqlConfig.getString("database", "orbisskills");
+            this.username = mysqlConfig.getString("username", "root");
+            this.password = mysqlConfig.getString("password", "password");
+            this.tablePrefix = mysqlConfig.getString("table-prefix", "orbisskills_");
+            this.sqliteFile = null;
+        } else {
+            ConfigurationSection sqliteConfig = config.getConfigurationSection("sqlite");
+            this.host = null;
+            this.port = 0;
+            this.database = null;
+            this.username = null;
+            this.password = null;
+            this.tablePrefix = "orbisskills_";
+            this.sqliteFile = sqliteConfig.getString("file", "database.db");
+        }
+
+       
+
+        ConfigurationSection poolConfig = config.getConfigurationSection("pool");
+        if (poolConfig == null) {
+            poolConfig = new MemoryConfiguration();
+        }
+
+       
+
+        int writerThreads = useMySql ? Math.max(1, poolConfig.getInt("writer-threads", 2)) : 1;
+        int readerThreads = Math.max(1, poolConfig.getInt("reader-threads", 2));
+        this.maximumPoolSize = Math.max(poolConfig.getInt("maximum-pool-size", 10), writerThreads + readerThreads);
+        this.minimumIdle = Math.min(Math.max(0, poolConfig.getInt("minimum-idle", 2)), maximumPoolSize);
+        this.connectionTimeout = poolConfig.getLong("connection-timeout", 5000L);
+        this.idleTimeout = poolConfig.getLong("idle-timeout", 600000L);
+        this.maxLifetime = poolConfig.getLong("max-lifetime", 1800000L);
+        this.keepaliveTime = poolConfig.getLong("keepalive-time", 300000L);
+        this.validationTimeout = poolConfig.getLong("validation-timeout", 3000L);
+        this.shutdownTimeout = poolConfig.getInt("shutdown-timeout", 10);
+
+       
+
+        ConfigurationSection batchConfig = config.getConfigurationSection("batch");
+        if (batchConfig == null) {
+            batchConfig = new MemoryConfiguration();
+        }
+        this.batchSize = Math.max(1, batchConfig.getInt("size", 500));
+        this.lingerMillis = Math.max(0L, batchConfig.getLong("linger", 2000L));
+
+       
+
+        this.writers = new ScheduledExecutorService[writerThreads];
+        this.writeQueues = new WriteQueue[writerThreads];
+        AtomicInteger threadCounter = new AtomicInteger();
+        for (int i = 0; i < writerThreads; i++) {
+            writers[i] = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "OrbisSkills-SQL-Writer-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            writeQueues[i] = new WriteQueue(writers[i]);
+        }
+
+        AtomicInteger readerCounter = new AtomicInteger();
+        this.readers = Executors.newFixedThreadPool(readerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "OrbisSkills-SQL-Reader-" + readerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void initialize() {
+        try {
+           
+
+            connect();
+
+           
+
+            createTables();
+
+            plugin.getLogger().info("Connected to " + (useMySql ? "MySQL" : "SQLite") + " database! (pool size "
+                    + maximumPoolSize + ", " + writers.length + " writer thread(s))");
+        } catch (SQLException | RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to initialize database", e);
+        }
+    }
+
+    
+
+    private void connect() {
+        if (dataSource != null && !dataSource.isClosed()) {
+            return;
+        }
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("OrbisSkills-Pool");
+        hikariConfig.setMaximumPoolSize(maximumPoolSize);
+        hikariConfig.setMinimumIdle(minimumIdle);
+        hikariConfig.setConnectionTimeout(connectionTimeout);
+        hikariConfig.setIdleTimeout(idleTimeout);
+        hikariConfig.setMaxLifetime(maxLifetime);
+        hikariConfig.setKeepaliveTime(keepaliveTime);
+        hikariConfig.setValidationTimeout(validationTimeout);
+
+        if (useMySql) {
+           
+
+            hikariConfig.setJdbcUrl("jdbc:mysql://" + host + ":" + port + "/" + database + "?useSSL=false");
+            hikariConfig.setUsername(username);
+            hikariConfig.setPassword(password);
+            hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            hikariConfig.addDataSourceProperty("rewriteBatchedStatements", "true");
+            hikariConfig.addDataSourceProperty("tcpKeepAlive", "true");
+        } else {
+           
+
+            hikariConfig.setJdbcUrl("jdbc:sqlite:" + new java.io.File(plugin.getDataFolder(), sqliteFile));
+            hikariConfig.addDataSourceProperty("journal_mode", "WAL");
+            hikariConfig.addDataSourceProperty("busy_timeout", String.valueOf(connectionTimeout));
+        }
+
+        dataSource = new HikariDataSource(hikariConfig);
+    }
+
+    
+
+    private Connection getConnection() throws SQLException {
+        if (dataSource == null || dataSource.isClosed()) {
+            throw new SQLException("Connection pool is not available");
+        }
+        return dataSource.getConnection();
+    }
+
+    
+
+    private void createTables() throws SQLException {
+        String skillsTable = "CREATE TABLE IF NOT EXISTS " + tablePrefix + "skills (" +
+                "uuid VARCHAR(36) NOT NULL, " +
+                "skill VARCHAR(32) NOT NULL, " +
+                "level INT NOT NULL DEFAULT 0, " +
+                "experience DOUBLE NOT NULL DEFAULT 0, " +
+                "PRIMARY KEY (uuid, skill)" +
+                ");";
+
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(skillsTable);
+        }
+    }
+
+    @Override
+    public PlayerData loadPlayerData(UUID uuid) {
+        Map<String, Object> data = new HashMap<>();
+        Map<String, Integer> levels = new HashMap<>();
+        Map<String, Double> experience = new HashMap<>();
+
+       
+
+        List<SkillRecord> unsaved = getWriteQueue(uuid).copyPending(uuid);
+
+        try {
+           
+
+            String query = "SELECT skill, level, experience FROM " + tablePrefix + "skills " +
+                    "WHERE uuid = ?;";
+
+            try (Connection connection = getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+                statement.setString(1, uuid.toString());
+
+                try (ResultSet results = statement.executeQuery()) {
+                    while (results.next()) {
+                        String skill = results.getString("skill");
+                        int level = results.getInt("level");
+                        double exp = results.getDouble("experience");
+
+                        levels.put(skill, level);
+                        experience.put(skill, exp);
+                    }
+                }
+            }
+
+           
+
+            overlay(unsaved, levels, experience);
+            data.put("levels", levels);
+            data.put("experience", experience);
+
+           
+
+            return new PlayerData(uuid, data);
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uuid, e);
+            return new PlayerData(uuid);
+        }
+    }
+
+    @Override
+    public CompletableFuture<PlayerData> loadPlayerDataAsync(UUID uuid) {
+        CompletableFuture<PlayerData> future = new CompletableFuture<>();
+        try {
+            readers.execute(new LoadTask(uuid, future));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public void savePlayerData(PlayerDataSnapshot snapshot) {
+       
+
+        getWriteQueue(snapshot.getUuid()).enqueue(snapshot.getUuid(), snapshot.getChangedRecords());
+    }
+
+    @Override
+    public void savePlayerData(Collection<PlayerDataSnapshot> snapshots) {
+        for (PlayerDataSnapshot snapshot : snapshots) {
+            getWriteQueue(snapshot.getUuid()).enqueue(snapshot.getUuid(), snapshot.getChangedRecords());
+        }
+
+       
+
+        for (WriteQueue queue : writeQueues) {
+            queue.flushSoon();
+        }
+    }
+
+    
+
+    private WriteQueue getWriteQueue(UUID uuid) {
+        return writeQueues[Math.floorMod(uuid.hashCode(), writeQueues.length)];
+    }
+
+    
+
+    private boolean writeBatch(Map<UUID, Map<String, SkillRecord>> batch) {
+        String query = "INSERT INTO " + tablePrefix + "skills (uuid, skill, level, experience) " +
+                "VALUES (?, ?, ?, ?) " + getUpsertClause();
+           
+        try (Connection connection = getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                int batchedRows = 0;
+                for (Map.Entry<UUID, Map<String, SkillRecord>> entry : batch.entrySet()) {
+                    batchedRows += addPlayerRows(statement, entry.getKey(), entry.getValue().values());
+
+           
+
+                    if (batchedRows >= batchSize) {
+                        statement.executeBatch();
+                        batchedRows = 0;
+                    }
+                }
+
+                if (batchedRows > 0) {
+                    statement.executeBatch();
+                }
+
+                connection.commit();
+                return true;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save " + batch.size() + " player data entries, will retry", e);
+            return false;
+        }
+    }
+
+           
+
+    private int addPlayerRows(PreparedStatement statement, UUID uuid, Collection<SkillRecord> records) throws SQLException {
+        String uuidString = uuid.toString();
+        for (SkillRecord record : records) {
+            statement.setString(1, uuidString);
+            statement.setString(2, record.getSkill());
+            statement.setInt(3, record.getLevel());
+            statement.setDouble(4, record.getExperience());
+            statement.addBatch();
+        }
+        return records.size();
+    }
+
+    
+
+    private String getUpsertClause() {
+        if (useMySql) {
+            return "ON DUPLICATE KEY UPDATE level = VALUES(level), experience = VALUES(experience);";
+        }
+        return "ON CONFLICT(uuid, skill) DO UPDATE SET level = excluded.level, experience = excluded.experience;";
+    }
+
+    @Override
+    public void scanAllPlayerData(ForkJoinPool pool, Consumer<PlayerData> consumer) {
+       
+
+       
+
+        String query = "SELECT uuid, skill, level, experience FROM " + tablePrefix + "skills " +
+                "WHERE uuid > ? OR (uuid = ? AND skill > ?) ORDER BY uuid, skill LIMIT " + SCAN_PAGE_SIZE + ";";
+
+       
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        try (Connection connection = getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            List<ScannedPlayer> batch = new ArrayList<>();
+            String current = null;
+            Map<String, Integer> levels = new HashMap<>();
+            Map<String, Double> experience = new HashMap<>();
+            String lastUuid = "";
+            String lastSkill = "";
+
+            int rows;
+            do {
+                statement.setString(1, lastUuid);
+                statement.setString(2, lastUuid);
+                statement.setString(3, lastSkill);
+
+                rows = 0;
+                try (ResultSet results = statement.executeQuery()) {
+                    while (results.next()) {
+                        rows++;
+                        String uuid = results.getString("uuid");
+                        String skill = results.getString("skill");
+                        if (current != null && !current.equals(uuid)) {
+                            batch.add(new ScannedPlayer(current, levels, experience));
+                            levels = new HashMap<>();
+                            experience = new HashMap<>();
+                        }
+
+                       
+
+                        current = uuid;
+                        levels.put(skill, results.getInt("level"));
+                        experience.put(skill, results.getDouble("experience"));
+                        lastUuid = uuid;
+                        lastSkill = skill;
+                    }
+                }
+
+                if (!batch.isEmpty()) {
+                    tasks.add(pool.submit(new ScanTask(batch, 0, batch.size(), consumer)));
+                    batch = new ArrayList<>();
+                }
+            } while (rows == SCAN_PAGE_SIZE);
+
+            if (current != null) {
+                acceptScanned(new ScannedPlayer(current, levels, experience), consumer);
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to scan player data", e);
+        } finally {
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+    }
+
+    private static void overlay(List<SkillRecord> rows, Map<String, Integer> levels, Map<String, Double> experience) {
+        for (SkillRecord record : rows) {
+            levels.put(record.getSkill(), record.getLevel());
+            experience.put(record.getSkill(), record.getExperience());
+        }
+    }
+
+    private void acceptScanned(ScannedPlayer player, Consumer<PlayerData> consumer) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(player.uuid);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+
+        getWriteQueue(uuid).overlayPending(uuid, player.levels, player.experience);
+        Map<String, Object> data = new HashMap<>();
+        data.put("levels", player.levels);
+        data.put("experience", player.experience);
+        consumer.accept(new PlayerData(uuid, data));
+    }
+
+    
+
+    private static final class ScannedPlayer {
+        private final String uuid;
+        private final Map<String, Integer> levels;
+        private final Map<String, Double> experience;
+
+        private ScannedPlayer(String uuid, Map<String, Integer> levels, Map<String, Double> experience) {
+            this.uuid = uuid;
+            this.levels = levels;
+            this.experience = experience;
+        }
+    }
+
+    
+
+    private class ScanTask extends RecursiveAction {
+        private static final int THRESHOLD = 64;
+
+        private final List<ScannedPlayer> players;
+        private final int from;
+        private final int to;
+        private final Consumer<PlayerData> consumer;
+
+        private ScanTask(List<ScannedPlayer> players, int from, int to, Consumer<PlayerData> consumer) {
+            this.players = players;
+            this.from = from;
+            this.to = to;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScanTask(players, from, middle, consumer), new ScanTask(players, middle, to, consumer));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                acceptScanned(players.get(i), consumer);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+       
+
+        readers.shutdown();
+
+       
+
+        for (WriteQueue queue : writeQueues) {
+            queue.flushSoon();
+        }
+
+        for (ScheduledExecutorService writer : writers) {
+            writer.shutdown();
+        }
+
+        for (ScheduledExecutorService writer : writers) {
+            try {
+                if (!writer.awaitTermination(shutdownTimeout, TimeUnit.SECONDS)) {
+                    plugin.getLogger().warning("Timed out waiting for pending saves to finish");
+                    writer.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                writer.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            if (!readers.awaitTermination(shutdownTimeout, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for pending loads to finish");
+                failDroppedLoads(readers.shutdownNow());
+            }
+        } catch (InterruptedException e) {
+            failDroppedLoads(readers.shutdownNow());
+            Thread.currentThread().interrupt();
+        }
+
+       
+
+        if (dataSource != null && !dataSource.isClosed()) {
+            dataSource.close();
+        }
+    }
+
+    private static void failDroppedLoads(List<Runnable> dropped) {
+        for (Runnable runnable : dropped) {
+            if (runnable instanceof LoadTask) {
+                ((LoadTask) runnable).future.completeExceptionally(new IllegalStateException("Storage was closed"));
+            }
+        }
+    }
+
+    
+
+    private class LoadTask implements Runnable {
+        private final UUID uuid;
+        private final CompletableFuture<PlayerData> future;
+
+        private LoadTask(UUID uuid, CompletableFuture<PlayerData> future) {
+            this.uuid = uuid;
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            try {
+                future.complete(loadPlayerData(uuid));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    
+
+    private class WriteQueue {
+        private final ScheduledExecutorService executor;
+        private Map<UUID, Map<String, SkillRecord>> pending = new LinkedHashMap<>();
+        private Map<UUID, Map<String, SkillRecord>> inFlight = Collections.emptyMap();
+        private int pendingRows = 0;
+        private boolean flushScheduled = false;
+
+        public WriteQueue(ScheduledExecutorService executor) {
+            this.executor = executor;
+        }
+
+        public void enqueue(UUID uuid, List<SkillRecord> records) {
+            if (records.isEmpty()) {
+                return;
+            }
+
+            boolean flushNow;
+            synchronized (this) {
+               
+
+                Map<String, SkillRecord> rows = pending.computeIfAbsent(uuid, key -> new HashMap<>());
+                for (SkillRecord record : records) {
+                    if (rows.put(record.getSkill(), record) == null) {
+                        pendingRows++;
+                    }
+                }
+                flushNow = pendingRows >= batchSize;
+
+                if (!flushNow && !flushScheduled) {
+                    flushScheduled = true;
+                    executor.schedule(this::flush, lingerMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            if (flushNow) {
+                flushSoon();
+            }
+        }
+
+        
+
+        public synchronized void overlayPending(UUID uuid, Map<String, Integer> levels, Map<String, Double> experience) {
+            overlay(copyPending(uuid), levels, experience);
+        }
+
+        
+
+        public synchronized List<SkillRecord> copyPending(UUID uuid) {
+            List<SkillRecord> rows = new ArrayList<>();
+            Map<String, SkillRecord> flushing = inFlight.get(uuid);
+            if (flushing != null) {
+                rows.addAll(flushing.values());
+            }
+            Map<String, SkillRecord> queued = pending.get(uuid);
+            if (queued != null) {
+                rows.addAll(queued.values());
+            }
+            return rows;
+        }
+
+        public void flushSoon() {
+            if (!executor.isShutdown()) {
+                executor.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            Map<UUID, Map<String, SkillRecord>> batch;
+            synchronized (this) {
+                flushScheduled = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                batch = pending;
+                inFlight = batch;
+                pending = new LinkedHashMap<>();
+                pendingRows = 0;
+            }
+
+            boolean written = writeBatch(batch);
+            synchronized (this) {
+                inFlight = Collections.emptyMap();
+                if (written) {
+                    return;
+                }
+
+               
+
+                for (Map.Entry<UUID, Map<String, SkillRecord>> entry : batch.entrySet()) {
+                    Map<String, SkillRecord> rows = pending.computeIfAbsent(entry.getKey(), key -> new HashMap<>());
+                    for (SkillRecord record : entry.getValue().values()) {
+                        if (rows.putIfAbsent(record.getSkill(), record) == null) {
+                            pendingRows++;
+                        }
+                    }
+                }
+
+                if (!flushScheduled && !executor.isShutdown()) {
+                    flushScheduled = true;
+                    executor.schedule(this::flush, Math.max(lingerMillis, 1000L), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.orbis.skills.data;
+
+
+
+public class SkillRecord {
+
+    private final String skill;
+    private final int level;
+    private final double experience;
+
+    
+
+    public SkillRecord(String skill, int level, double experience) {
+        this.skill = skill;
+        this.level = level;
+        this.experience = experience;
+    }
+
+    
+
+    public String getSkill() {
+        return skill;
+    }
+
+    
+
+    public int getLevel() {
+        return level;
+    }
+
+    
+
+    public double getExperience() {
+        return experience;
+    }
+}
\ No newline at end of file
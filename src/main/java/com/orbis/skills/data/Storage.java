@@ -1,24 +1,44 @@
-package com.orbis.skills.data;
-
-import java.util.UUID;
-
-
-
-public interface Storage {
-
-    
-
-    void initialize();
-
-    
-
-    PlayerData loadPlayerData(UUID uuid);
-
-    
-
-    void savePlayerData(PlayerData data);
-
-    
-
-    void close();
+package com.orbis.skills.data;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+
+
+public interface Storage {
+
+    
+
+    void initialize();
+
+    
+
+    PlayerData loadPlayerData(UUID uuid);
+
+    
+
+    CompletableFuture<PlayerData> loadPlayerDataAsync(UUID uuid);
+
+    
+
+    void savePlayerData(PlayerDataSnapshot snapshot);
+
+    
+
+    default void savePlayerData(Collection<PlayerDataSnapshot> snapshots) {
+        for (PlayerDataSnapshot snapshot : snapshots) {
+            savePlayerData(snapshot);
+        }
+    }
+
+    
+
+    void scanAllPlayerData(ForkJoinPool pool, Consumer<PlayerData> consumer);
+
+    
+
+    void close();
 }
\ No newline at end of file
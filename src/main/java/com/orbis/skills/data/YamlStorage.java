@@ -1,91 +1,157 @@
-package com.orbis.skills.data;
-
-import com.orbis.skills.OrbisSkills;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
-
-import java.io.File;
-import java.io.IOException;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.logging.Level;
-
-public class YamlStorage implements Storage {
-
-    private final OrbisSkills plugin;
-    private final File dataFolder;
-    private final ExecutorService executor;
-
-    
-
-    public YamlStorage(OrbisSkills plugin) {
-        this.plugin = plugin;
-        this.dataFolder = new File(plugin.getDataFolder(), "data/players");
-        this.executor = Executors.newSingleThreadExecutor();
-    }
-
-    @Override
-    public void initialize() {
-       
-
-        if (!dataFolder.exists() && !dataFolder.mkdirs()) {
-            plugin.getLogger().severe("Failed to create data folder: " + dataFolder.getAbsolutePath());
-        }
-    }
-
-    @Override
-    public PlayerData loadPlayerData(UUID uuid) {
-        File file = getPlayerFile(uuid);
-        if (!file.exists()) {
-            return null;
-        }
-
-        try {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-            Map<String, Object> data = config.getConfigurationSection("data").getValues(true);
-            return new PlayerData(uuid, data);
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uuid, e);
-            return null;
-        }
-    }
-
-    @Override
-    public void savePlayerData(PlayerData data) {
-       
-
-        executor.submit(() -> savePlayerDataSync(data));
-    }
-
-    
-
-    private void savePlayerDataSync(PlayerData data) {
-        File file = getPlayerFile(data.getUuid());
-        FileConfiguration config = new YamlConfiguration();
-
-       
-
-        config.set("data", data.serialize());
-
-       
-
-        try {
-            config.save(file);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save player data for " + data.getUuid(), e);
-        }
-    }
-
-    @Override
-    public void close() {
-        executor.shutdown();
-    }
-
-    
-
-    private File getPlayerFile(UUID uuid) {
-        return new File(dataFolder, uuid.toString() + ".yml");
-    }
+package com.orbis.skills.data;
+
+import com.orbis.skills.OrbisSkills;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+public class YamlStorage implements Storage {
+
+    private final OrbisSkills plugin;
+    private final File dataFolder;
+    private final ExecutorService executor;
+
+    
+
+    public YamlStorage(OrbisSkills plugin) {
+        this.plugin = plugin;
+        this.dataFolder = new File(plugin.getDataFolder(), "data/players");
+        this.executor = Executors.newSingleThreadExecutor();
+    }
+
+    @Override
+    public void initialize() {
+       
+
+        if (!dataFolder.exists() && !dataFolder.mkdirs()) {
+            plugin.getLogger().severe("Failed to create data folder: " + dataFolder.getAbsolutePath());
+        }
+    }
+
+    @Override
+    public PlayerData loadPlayerData(UUID uuid) {
+        File file = getPlayerFile(uuid);
+        if (!file.exists()) {
+            return null;
+        }
+
+        try {
+            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
+            Map<String, Object> data = config.getConfigurationSection("data").getValues(true);
+            return new PlayerData(uuid, data);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uuid, e);
+            return null;
+        }
+    }
+
+    @Override
+    public CompletableFuture<PlayerData> loadPlayerDataAsync(UUID uuid) {
+       
+
+        return CompletableFuture.supplyAsync(() -> loadPlayerData(uuid), executor);
+    }
+
+    @Override
+    public void savePlayerData(PlayerDataSnapshot snapshot) {
+       
+        if (!snapshot.hasChanges()) {
+            return;
+        }
+
+        executor.submit(() -> savePlayerDataSync(snapshot));
+    }
+
+    
+
+    private void savePlayerDataSync(PlayerDataSnapshot data) {
+        File file = getPlayerFile(data.getUuid());
+        FileConfiguration config = new YamlConfiguration();
+
+       
+
+        config.set("data", data.serialize());
+
+       
+
+        try {
+            config.save(file);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save player data for " + data.getUuid(), e);
+        }
+    }
+
+    @Override
+    public void scanAllPlayerData(ForkJoinPool pool, Consumer<PlayerData> consumer) {
+        File[] files = dataFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null || files.length == 0) {
+            return;
+        }
+
+        pool.invoke(new ScanTask(files, 0, files.length, consumer));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    
+
+    private class ScanTask extends RecursiveAction {
+        private static final int THRESHOLD = 64;
+
+        private final File[] files;
+        private final int from;
+        private final int to;
+        private final Consumer<PlayerData> consumer;
+
+        private ScanTask(File[] files, int from, int to, Consumer<PlayerData> consumer) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScanTask(files, from, middle, consumer), new ScanTask(files, middle, to, consumer));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                String name = files[i].getName();
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(name.substring(0, name.length() - 4));
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+
+                PlayerData data = loadPlayerData(uuid);
+                if (data != null) {
+                    consumer.accept(data);
+                }
+            }
+        }
+    }
+
+    
+
+    private File getPlayerFile(UUID uuid) {
+        return new File(dataFolder, uuid.toString() + ".yml");
+    }
 }
\ No newline at end of file
@@ -1,193 +1,296 @@
-package com.orbis.skills.listeners;
-
-import com.orbis.skills.OrbisSkills;
-import org.bukkit.Material;
-import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.event.entity.EntityBreedEvent;
-import org.bukkit.event.inventory.BrewEvent;
-import org.bukkit.event.inventory.CraftItemEvent;
-import org.bukkit.event.inventory.FurnaceExtractEvent;
-import org.bukkit.event.player.PlayerFishEvent;
-import org.bukkit.event.player.PlayerHarvestBlockEvent;
-import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerItemConsumeEvent;
-import org.bukkit.inventory.ItemStack;
-
-
-
-public class CustomSkillListeners implements Listener {
-
-    private final OrbisSkills plugin;
-
-    
-
-    public CustomSkillListeners(OrbisSkills plugin) {
-        this.plugin = plugin;
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onCraftItem(CraftItemEvent event) {
-        if (!(event.getWhoClicked() instanceof Player)) {
-            return;
-        }
-
-        Player player = (Player) event.getWhoClicked();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        ItemStack result = event.getRecipe().getResult();
-        plugin.getCustomSkillManager().handleTrigger(player, "CRAFT", result.getType().name());
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onFurnaceExtract(FurnaceExtractEvent event) {
-        Player player = event.getPlayer();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        plugin.getCustomSkillManager().handleTrigger(player, "SMELT", event.getItemType().name());
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onBrew(BrewEvent event) {
-       
-
-       
-
-
-       
-
-        plugin.getCustomSkillManager().handleTrigger(null, "BREW", null);
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onBlockBreak(BlockBreakEvent event) {
-        Player player = event.getPlayer();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        Material blockType = event.getBlock().getType();
-        plugin.getCustomSkillManager().handleTrigger(player, "BREAK", blockType.name());
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onPlayerInteract(PlayerInteractEvent event) {
-        Player player = event.getPlayer();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        if (event.hasItem()) {
-            plugin.getCustomSkillManager().handleTrigger(
-                    player, "INTERACT", event.getItem().getType().name());
-        }
-
-        if (event.hasBlock()) {
-            plugin.getCustomSkillManager().handleTrigger(
-                    player, "INTERACT_BLOCK", event.getClickedBlock().getType().name());
-        }
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onHarvest(PlayerHarvestBlockEvent event) {
-        Player player = event.getPlayer();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        plugin.getCustomSkillManager().handleTrigger(
-                player, "HARVEST", event.getHarvestedBlock().getType().name());
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onFish(PlayerFishEvent event) {
-        Player player = event.getPlayer();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        plugin.getCustomSkillManager().handleTrigger(player, "FISH", event.getState().name());
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onBreed(EntityBreedEvent event) {
-        if (!(event.getBreeder() instanceof Player)) {
-            return;
-        }
-
-        Player player = (Player) event.getBreeder();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        plugin.getCustomSkillManager().handleTrigger(
-                player, "BREED", event.getEntityType().name());
-    }
-
-    
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onConsume(PlayerItemConsumeEvent event) {
-        Player player = event.getPlayer();
-
-       
-
-        if (isWorldDisabled(player)) {
-            return;
-        }
-
-        plugin.getCustomSkillManager().handleTrigger(
-                player, "CONSUME", event.getItem().getType().name());
-    }
-
-    
-
-    private boolean isWorldDisabled(Player player) {
-        return plugin.getConfig().getStringList("settings.disabled-worlds")
-                .contains(player.getWorld().getName());
-    }
+package com.orbis.skills.listeners;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.skills.CustomSkillManager;
+import com.orbis.skills.skills.CustomTrigger;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityBreedEvent;
+import org.bukkit.event.inventory.BrewEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.FurnaceExtractEvent;
+import org.bukkit.event.player.PlayerFishEvent;
+import org.bukkit.event.player.PlayerHarvestBlockEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+
+
+public class CustomSkillListeners implements Listener {
+
+    private static final int HANDLED_ITEM = 1;
+    private static final int HANDLED_BLOCK = 2;
+
+    private final OrbisSkills plugin;
+   
+
+    private final Map<UUID, Long> lastInteractTick = new HashMap<>();
+
+    
+
+    public CustomSkillListeners(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    
+
+    public void register() {
+        HandlerList.unregisterAll(this);
+        lastInteractTick.clear();
+
+        CustomSkillManager manager = plugin.getCustomSkillManager();
+        int count = 0;
+
+        if (manager.hasTrigger(CustomTrigger.CRAFT)) {
+            listen(CraftItemEvent.class, this::onCraftItem);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.SMELT)) {
+            listen(FurnaceExtractEvent.class, this::onFurnaceExtract);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.BREW)) {
+            listen(BrewEvent.class, this::onBrew);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.BREAK)) {
+            listen(BlockBreakEvent.class, this::onBlockBreak);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.INTERACT) || manager.hasTrigger(CustomTrigger.INTERACT_BLOCK)) {
+            listen(PlayerInteractEvent.class, this::onPlayerInteract);
+            listen(PlayerQuitEvent.class, this::onQuit);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.HARVEST)) {
+            listen(PlayerHarvestBlockEvent.class, this::onHarvest);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.FISH)) {
+            listen(PlayerFishEvent.class, this::onFish);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.BREED)) {
+            listen(EntityBreedEvent.class, this::onBreed);
+            count++;
+        }
+        if (manager.hasTrigger(CustomTrigger.CONSUME)) {
+            listen(PlayerItemConsumeEvent.class, this::onConsume);
+            count++;
+        }
+
+        plugin.getLogger().info("Registered " + count + " custom skill trigger listeners");
+    }
+
+    
+
+    private <T extends Event> void listen(Class<T> type, Consumer<T> handler) {
+        plugin.getServer().getPluginManager().registerEvent(type, this, EventPriority.MONITOR, (listener, event) -> {
+            if (type.isInstance(event)) {
+                handler.accept(type.cast(event));
+            }
+        }, plugin, true);
+    }
+
+    
+
+    private void onCraftItem(CraftItemEvent event) {
+        if (!(event.getWhoClicked() instanceof Player)) {
+            return;
+        }
+
+        Player player = (Player) event.getWhoClicked();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+        CustomSkillManager manager = plugin.getCustomSkillManager();
+        if (!manager.hasTrigger(CustomTrigger.CRAFT)) {
+            return;
+        }
+
+        ItemStack result = event.getRecipe().getResult();
+        manager.handleTrigger(player, CustomTrigger.CRAFT, result.getType());
+    }
+
+    
+
+    private void onFurnaceExtract(FurnaceExtractEvent event) {
+        Player player = event.getPlayer();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+        plugin.getCustomSkillManager().handleTrigger(player, CustomTrigger.SMELT, event.getItemType());
+    }
+
+    
+
+    private void onBrew(BrewEvent event) {
+       
+
+       
+
+
+       
+
+        plugin.getCustomSkillManager().handleTrigger(null, CustomTrigger.BREW, null);
+    }
+
+    
+
+    private void onBlockBreak(BlockBreakEvent event) {
+        Player player = event.getPlayer();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+        if (plugin.getPlacedBlockTracker().isPlaced(event.getBlock())) {
+            return;
+        }
+
+        Material blockType = event.getBlock().getType();
+        plugin.getCustomSkillManager().handleTrigger(player, CustomTrigger.BREAK, blockType);
+    }
+
+    
+
+    private void onPlayerInteract(PlayerInteractEvent event) {
+        Player player = event.getPlayer();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+       
+
+        long tick = Bukkit.getCurrentTick();
+        UUID uuid = player.getUniqueId();
+        int skip = 0;
+        if (event.getHand() == EquipmentSlot.OFF_HAND) {
+            Long last = lastInteractTick.get(uuid);
+            if (last != null && (last >> 2) == tick) {
+                skip = (int) (last & (HANDLED_ITEM | HANDLED_BLOCK));
+            }
+        }
+
+        int handled = 0;
+        if (event.hasItem() && (skip & HANDLED_ITEM) == 0) {
+            plugin.getCustomSkillManager().handleTrigger(
+                    player, CustomTrigger.INTERACT, event.getItem().getType());
+            handled |= HANDLED_ITEM;
+        }
+
+        if (event.hasBlock() && (skip & HANDLED_BLOCK) == 0) {
+            plugin.getCustomSkillManager().handleTrigger(
+                    player, CustomTrigger.INTERACT_BLOCK, event.getClickedBlock().getType());
+            handled |= HANDLED_BLOCK;
+        }
+
+       
+
+        if (event.getHand() == EquipmentSlot.HAND) {
+            lastInteractTick.put(uuid, (tick << 2) | handled);
+        }
+    }
+
+    
+
+    private void onHarvest(PlayerHarvestBlockEvent event) {
+        Player player = event.getPlayer();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+        plugin.getCustomSkillManager().handleTrigger(
+                player, CustomTrigger.HARVEST, event.getHarvestedBlock().getType());
+    }
+
+    
+
+    private void onFish(PlayerFishEvent event) {
+        Player player = event.getPlayer();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+        plugin.getCustomSkillManager().handleTrigger(player, CustomTrigger.FISH, event.getState());
+    }
+
+    
+
+    private void onBreed(EntityBreedEvent event) {
+        if (!(event.getBreeder() instanceof Player)) {
+            return;
+        }
+
+        Player player = (Player) event.getBreeder();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+        plugin.getCustomSkillManager().handleTrigger(
+                player, CustomTrigger.BREED, event.getEntityType());
+    }
+
+    
+
+    private void onConsume(PlayerItemConsumeEvent event) {
+        Player player = event.getPlayer();
+
+       
+
+        if (isWorldDisabled(player)) {
+            return;
+        }
+
+        plugin.getCustomSkillManager().handleTrigger(
+                player, CustomTrigger.CONSUME, event.getItem().getType());
+    }
+
+    
+
+    private void onQuit(PlayerQuitEvent event) {
+        lastInteractTick.remove(event.getPlayer().getUniqueId());
+    }
+
+    
+
+    private boolean isWorldDisabled(Player player) {
+        return plugin.getConfigManager().getSettings().isWorldDisabled(player.getWorld());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.orbis.skills.listeners;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.data.PlacedBlockTracker;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldSaveEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+
+public class PlacedBlockListeners implements Listener {
+
+    private final PlacedBlockTracker tracker;
+
+    public PlacedBlockListeners(OrbisSkills plugin) {
+        this.tracker = plugin.getPlacedBlockTracker();
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Block block = event.getBlockPlaced();
+        if (tracker.isTracked(block.getType())) {
+            tracker.mark(block);
+        }
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+       
+
+        if (tracker.isPlaced(event.getBlock())) {
+            tracker.unmarkLater(event.getBlock());
+        }
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        moveMarks(event.getBlocks(), event.getDirection());
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        moveMarks(event.getBlocks(), event.getDirection());
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            tracker.unmark(block);
+        }
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            tracker.unmark(block);
+        }
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        tracker.loadChunk(event.getChunk());
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        tracker.unloadChunk(event.getChunk());
+    }
+
+    
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldSave(WorldSaveEvent event) {
+        tracker.saveWorld(event.getWorld());
+    }
+
+   
+
+    private void moveMarks(List<Block> blocks, BlockFace direction) {
+        List<Block> moved = new ArrayList<>();
+        for (Block block : blocks) {
+            if (tracker.isPlaced(block)) {
+                tracker.unmark(block);
+                moved.add(block);
+            }
+        }
+
+        for (Block block : moved) {
+            tracker.mark(block.getRelative(direction));
+        }
+    }
+}
\ No newline at end of file
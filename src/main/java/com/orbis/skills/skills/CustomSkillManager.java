@@ -1,185 +1,347 @@
-package com.orbis.skills.skills;
-
-import com.orbis.skills.OrbisSkills;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.entity.Player;
-
-import java.io.File;
-import java.util.HashMap;
-import java.util.Map;
-
-
-
-public class CustomSkillManager {
-
-    private final OrbisSkills plugin;
-    private final Map<String, CustomSkill> customSkills = new HashMap<>();
-
-    
-
-    public CustomSkillManager(OrbisSkills plugin) {
-        this.plugin = plugin;
-    }
-
-    
-
-    public void loadCustomSkills() {
-       
-
-        File skillsDir = new File(plugin.getDataFolder(), "config/custom_skills");
-        if (!skillsDir.exists()) {
-            if (skillsDir.mkdirs()) {
-               
-
-                createExampleSkillFile(skillsDir);
-            } else {
-                plugin.getLogger().severe("Failed to create custom skills directory!");
-                return;
-            }
-        }
-
-       
-
-        File[] skillFiles = skillsDir.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (skillFiles == null || skillFiles.length == 0) {
-            plugin.getLogger().info("No custom skills found");
-            return;
-        }
-
-       
-
-        customSkills.clear();
-
-       
-
-        for (File skillFile : skillFiles) {
-            try {
-                FileConfiguration config = YamlConfiguration.loadConfiguration(skillFile);
-                String fileName = skillFile.getName().replace(".yml", "");
-
-               
-
-                if (!config.getBoolean("enabled", true)) {
-                    plugin.getLogger().info("Skipping disabled custom skill: " + fileName);
-                    continue;
-                }
-
-               
-
-                String skillName = config.getString("name", fileName);
-                CustomSkill skill = new CustomSkill(plugin, skillName, config);
-
-               
-
-                customSkills.put(skillName.toLowerCase(), skill);
-
-               
-
-                if (plugin.getConfig().getBoolean("skills.enabled.custom." + skillName.toLowerCase(), true)) {
-                    plugin.getSkillManager().registerSkill(skill);
-                    plugin.getLogger().info("Registered custom skill: " + skillName);
-                } else {
-                    plugin.getLogger().info("Custom skill loaded but not registered (disabled in main config): " + skillName);
-                }
-
-            } catch (Exception e) {
-                plugin.getLogger().severe("Failed to load custom skill from file: " + skillFile.getName());
-                e.printStackTrace();
-            }
-        }
-
-        plugin.getLogger().info("Loaded " + customSkills.size() + " custom skills");
-    }
-
-    
-
-    private void createExampleSkillFile(File directory) {
-        File exampleFile = new File(directory, "example_skill.yml");
-
-        try {
-            FileConfiguration config = new YamlConfiguration();
-
-           
-
-            config.set("enabled", true);
-            config.set("name", "Cooking");
-            config.set("display-name", "&6Cooking");
-            config.set("description", "Skill for cooking food items");
-            config.set("base-exp", 5.0);
-
-           
-
-            config.set("sources", new String[]{
-                    "CRAFTING", "FURNACE", "CAMPFIRE", "SMOKER"
-            });
-
-           
-
-            config.set("triggers", new String[]{
-                    "CRAFT", "SMELT", "BREW"
-            });
-
-           
-
-            config.set("trigger-materials", new String[]{
-                    "COOKED_BEEF", "COOKED_CHICKEN", "COOKED_MUTTON", "COOKED_PORKCHOP",
-                    "COOKED_RABBIT", "COOKED_COD", "COOKED_SALMON", "BAKED_POTATO",
-                    "CAKE", "BREAD", "COOKIE", "PUMPKIN_PIE"
-            });
-
-           
-
-            ConfigurationSection abilitiesSection = config.createSection("abilities");
-
-           
-
-            ConfigurationSection chefAbility = abilitiesSection.createSection("chef");
-            chefAbility.set("unlock-level", 10);
-            chefAbility.set("description", "Chance to get double food items when cooking");
-
-           
-
-            ConfigurationSection gourmetAbility = abilitiesSection.createSection("gourmet");
-            gourmetAbility.set("unlock-level", 25);
-            gourmetAbility.set("description", "Cooked food gives extra hunger and saturation");
-
-           
-
-            config.save(exampleFile);
-
-            plugin.getLogger().info("Created example custom skill file: example_skill.yml");
-
-        } catch (Exception e) {
-            plugin.getLogger().severe("Failed to create example skill file");
-            e.printStackTrace();
-        }
-    }
-
-    
-
-    public void handleTrigger(Player player, String triggerType, String material) {
-        for (CustomSkill skill : customSkills.values()) {
-            skill.handleTrigger(player, triggerType, material);
-        }
-    }
-
-    
-
-    public CustomSkill getCustomSkill(String name) {
-        return customSkills.get(name.toLowerCase());
-    }
-
-    
-
-    public boolean hasCustomSkill(String name) {
-        return customSkills.containsKey(name.toLowerCase());
-    }
-
-    
-
-    public Map<String, CustomSkill> getAllCustomSkills() {
-        return customSkills;
-    }
+package com.orbis.skills.skills;
+
+import com.orbis.skills.OrbisSkills;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+
+
+public class CustomSkillManager {
+
+    private final OrbisSkills plugin;
+    private final Map<String, CustomSkill> customSkills = new HashMap<>();
+    private TriggerIndex triggerIndex = TriggerIndex.EMPTY;
+
+    
+
+    public CustomSkillManager(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    
+
+    public void loadCustomSkills() {
+       
+
+        for (CustomSkill skill : customSkills.values()) {
+            plugin.getSkillManager().unregisterSkill(skill);
+        }
+        customSkills.clear();
+        triggerIndex = TriggerIndex.EMPTY;
+
+       
+
+        File skillsDir = new File(plugin.getDataFolder(), "config/custom_skills");
+        if (!skillsDir.exists()) {
+            if (skillsDir.mkdirs()) {
+               
+
+                createExampleSkillFile(skillsDir);
+            } else {
+                plugin.getLogger().severe("Failed to create custom skills directory!");
+                return;
+            }
+        }
+
+       
+
+        File[] skillFiles = skillsDir.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (skillFiles == null || skillFiles.length == 0) {
+            plugin.getLogger().info("No custom skills found");
+            return;
+        }
+
+       
+
+        for (File skillFile : skillFiles) {
+            try {
+                FileConfiguration config = YamlConfiguration.loadConfiguration(skillFile);
+                String fileName = skillFile.getName().replace(".yml", "");
+
+               
+
+                if (!config.getBoolean("enabled", true)) {
+                    plugin.getLogger().info("Skipping disabled custom skill: " + fileName);
+                    continue;
+                }
+
+               
+
+                String skillName = config.getString("name", fileName);
+                CustomSkill skill = new CustomSkill(plugin, skillName, config);
+
+               
+
+                customSkills.put(skillName.toLowerCase(), skill);
+
+               
+
+                if (plugin.getConfig().getBoolean("skills.enabled.custom." + skillName.toLowerCase(), true)) {
+                    plugin.getSkillManager().registerSkill(skill);
+                    plugin.getLogger().info("Registered custom skill: " + skillName);
+                } else {
+                    plugin.getLogger().info("Custom skill loaded but not registered (disabled in main config): " + skillName);
+                }
+
+            } catch (Exception e) {
+                plugin.getLogger().severe("Failed to load custom skill from file: " + skillFile.getName());
+                e.printStackTrace();
+            }
+        }
+
+        plugin.getLogger().info("Loaded " + customSkills.size() + " custom skills");
+
+       
+
+        List<CustomSkill> registered = new ArrayList<>();
+        for (CustomSkill skill : customSkills.values()) {
+            if (plugin.getSkillManager().getSkill(skill.getName()) == skill) {
+                registered.add(skill);
+            }
+        }
+        triggerIndex = TriggerIndex.build(registered, plugin.getLogger());
+    }
+
+    
+
+    private void createExampleSkillFile(File directory) {
+        File exampleFile = new File(directory, "example_skill.yml");
+
+        try {
+            FileConfiguration config = new YamlConfiguration();
+
+           
+
+            config.set("enabled", true);
+            config.set("name", "Cooking");
+            config.set("display-name", "&6Cooking");
+            config.set("description", "Skill for cooking food items");
+            config.set("base-exp", 5.0);
+
+           
+
+            config.set("sources", new String[]{
+                    "CRAFTING", "FURNACE", "CAMPFIRE", "SMOKER"
+            });
+
+           
+
+            config.set("triggers", new String[]{
+                    "CRAFT", "SMELT", "BREW"
+            });
+
+           
+
+            config.set("trigger-materials", new String[]{
+                    "COOKED_BEEF", "COOKED_CHICKEN", "COOKED_MUTTON", "COOKED_PORKCHOP",
+                    "COOKED_RABBIT", "COOKED_COD", "COOKED_SALMON", "BAKED_POTATO",
+                    "CAKE", "BREAD", "COOKIE", "PUMPKIN_PIE"
+            });
+
+           
+
+            ConfigurationSection abilitiesSection = config.createSection("abilities");
+
+           
+
+            ConfigurationSection chefAbility = abilitiesSection.createSection("chef");
+            chefAbility.set("unlock-level", 10);
+            chefAbility.set("description", "Chance to get double food items when cooking");
+
+           
+
+            ConfigurationSection gourmetAbility = abilitiesSection.createSection("gourmet");
+            gourmetAbility.set("unlock-level", 25);
+            gourmetAbility.set("description", "Cooked food gives extra hunger and saturation");
+
+           
+
+            config.save(exampleFile);
+
+            plugin.getLogger().info("Created example custom skill file: example_skill.yml");
+
+        } catch (Exception e) {
+            plugin.getLogger().severe("Failed to create example skill file");
+            e.printStackTrace();
+        }
+    }
+
+    
+
+    public void handleTrigger(Player player, CustomTrigger trigger, Enum<?> key) {
+        if (player == null) {
+            return;
+        }
+
+        for (TriggerEntry entry : triggerIndex.get(trigger, key)) {
+            entry.skill.handleTrigger(player, trigger, key, entry.exp);
+        }
+    }
+
+    
+
+    public boolean hasTrigger(CustomTrigger trigger) {
+        return triggerIndex.has(trigger);
+    }
+
+    
+
+    public boolean hasTrigger(CustomTrigger trigger, Enum<?> key) {
+        return triggerIndex.get(trigger, key).length > 0;
+    }
+
+    
+
+    public CustomSkill getCustomSkill(String name) {
+        return customSkills.get(name.toLowerCase());
+    }
+
+    
+
+    public boolean hasCustomSkill(String name) {
+        return customSkills.containsKey(name.toLowerCase());
+    }
+
+    
+
+    public Map<String, CustomSkill> getAllCustomSkills() {
+        return customSkills;
+    }
+
+    
+
+    private static class TriggerEntry {
+        private final CustomSkill skill;
+        private final double exp;
+
+        private TriggerEntry(CustomSkill skill, double exp) {
+            this.skill = skill;
+            this.exp = exp;
+        }
+    }
+
+    
+
+    private static class TriggerIndex {
+        private static final TriggerEntry[] NONE = new TriggerEntry[0];
+        private static final TriggerIndex EMPTY = new TriggerIndex(
+                new TriggerEntry[CustomTrigger.values().length][][], new TriggerEntry[CustomTrigger.values().length][]);
+
+        private final TriggerEntry[][][] byKey;
+        private final TriggerEntry[][] all;
+
+        private TriggerIndex(TriggerEntry[][][] byKey, TriggerEntry[][] all) {
+            this.byKey = byKey;
+            this.all = all;
+        }
+
+        private TriggerEntry[] get(CustomTrigger trigger, Enum<?> key) {
+            TriggerEntry[][] slots = byKey[trigger.ordinal()];
+            if (slots == null) {
+                return NONE;
+            }
+
+           
+
+            if (key == null || key.getDeclaringClass() != trigger.getKeyType()) {
+                return all[trigger.ordinal()];
+            }
+            return slots[key.ordinal()];
+        }
+
+        private boolean has(CustomTrigger trigger) {
+            return byKey[trigger.ordinal()] != null;
+        }
+
+        private static TriggerIndex build(List<CustomSkill> skills, Logger logger) {
+            CustomTrigger[] triggers = CustomTrigger.values();
+            TriggerEntry[][][] byKey = new TriggerEntry[triggers.length][][];
+            TriggerEntry[][] all = new TriggerEntry[triggers.length][];
+
+            for (CustomTrigger trigger : triggers) {
+                List<TriggerEntry> anyKey = new ArrayList<>();
+                List<TriggerEntry> every = new ArrayList<>();
+                Map<Integer, List<TriggerEntry>> keyed = new HashMap<>();
+
+                for (CustomSkill skill : skills) {
+                    if (!skill.getTriggerTypes().contains(trigger)) {
+                        continue;
+                    }
+
+                    TriggerEntry entry = new TriggerEntry(skill, skill.getBaseExpValue());
+                    every.add(entry);
+                    if (skill.getTriggerMaterials().isEmpty()) {
+                        anyKey.add(entry);
+                        continue;
+                    }
+
+                    for (String name : skill.getTriggerMaterials()) {
+                        Enum<?> key = trigger.resolveKey(name);
+                        if (key != null) {
+                            keyed.computeIfAbsent(key.ordinal(), ordinal -> new ArrayList<>()).add(entry);
+                        }
+                    }
+                }
+
+                if (every.isEmpty()) {
+                    continue;
+                }
+
+                int size = trigger.getKeyType() != null ? trigger.getKeyType().getEnumConstants().length : 0;
+                TriggerEntry[] shared = anyKey.toArray(NONE);
+                TriggerEntry[][] slots = new TriggerEntry[size][];
+                for (int ordinal = 0; ordinal < size; ordinal++) {
+                    List<TriggerEntry> entries = keyed.get(ordinal);
+                    if (entries == null) {
+                        slots[ordinal] = shared;
+                        continue;
+                    }
+
+                    Set<TriggerEntry> merged = new LinkedHashSet<>(anyKey);
+                    merged.addAll(entries);
+                    slots[ordinal] = merged.toArray(NONE);
+                }
+
+                byKey[trigger.ordinal()] = slots;
+                all[trigger.ordinal()] = every.toArray(NONE);
+            }
+
+            warnUnknownMaterials(skills, logger);
+            return new TriggerIndex(byKey, all);
+        }
+
+        private static void warnUnknownMaterials(List<CustomSkill> skills, Logger logger) {
+            for (CustomSkill skill : skills) {
+                List<String> unknown = new ArrayList<>();
+                for (String name : skill.getTriggerMaterials()) {
+                    boolean found = false;
+                    for (CustomTrigger trigger : skill.getTriggerTypes()) {
+                        if (trigger.resolveKey(name) != null) {
+                            found = true;
+                            break;
+                        }
+                    }
+                    if (!found) {
+                        unknown.add(name);
+                    }
+                }
+
+                if (!unknown.isEmpty()) {
+                    logger.warning("Custom skill " + skill.getName()
+                            + " has trigger-materials that match none of its triggers: " + unknown);
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.orbis.skills.skills;
+
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.player.PlayerFishEvent;
+
+
+
+public enum CustomTrigger {
+    CRAFT(Material.class),
+    SMELT(Material.class),
+    BREW(null),
+    BREAK(Material.class),
+    INTERACT(Material.class),
+    INTERACT_BLOCK(Material.class),
+    HARVEST(Material.class),
+    FISH(PlayerFishEvent.State.class),
+    BREED(EntityType.class),
+    CONSUME(Material.class);
+
+    private final Class<? extends Enum<?>> keyType;
+
+    CustomTrigger(Class<? extends Enum<?>> keyType) {
+        this.keyType = keyType;
+    }
+
+    
+
+    public Class<? extends Enum<?>> getKeyType() {
+        return keyType;
+    }
+
+    
+
+    public static CustomTrigger fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    
+
+    public Enum<?> resolveKey(String name) {
+        if (keyType == null) {
+            return null;
+        }
+
+        String upper = name.toUpperCase();
+        for (Enum<?> constant : keyType.getEnumConstants()) {
+            if (constant.name().equals(upper)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
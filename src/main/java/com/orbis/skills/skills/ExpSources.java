@@ -0,0 +1,69 @@
+package com.orbis.skills.skills;
+
+import com.orbis.skills.util.ExpSourceTable;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.entity.EntityType;
+
+import java.util.logging.Logger;
+
+
+
+public class ExpSources {
+
+    private final ExpSourceTable<Material> blocks;
+    private final ExpSourceTable<EntityType> entities;
+    private final ExpSourceTable<Material> weapons;
+
+    private ExpSources(Builder builder) {
+        this.blocks = builder.blocks.build();
+        this.entities = builder.entities.build();
+        this.weapons = builder.weapons.build();
+    }
+
+    
+
+    public ExpSourceTable<Material> getBlocks() {
+        return blocks;
+    }
+
+    
+
+    public ExpSourceTable<EntityType> getEntities() {
+        return entities;
+    }
+
+    
+
+    public boolean isWeapon(Material type, int skillId) {
+        return weapons.getExp(type, skillId, 0) > 0;
+    }
+
+    public static class Builder {
+        private final ExpSourceTable.Builder<Material> blocks;
+        private final ExpSourceTable.Builder<EntityType> entities;
+        private final ExpSourceTable.Builder<Material> weapons;
+
+        Builder(Logger logger) {
+            this.blocks = ExpSourceTable.builder(Material.class, Tag.REGISTRY_BLOCKS, logger);
+            this.entities = ExpSourceTable.builder(EntityType.class, Tag.REGISTRY_ENTITY_TYPES, logger);
+            this.weapons = ExpSourceTable.builder(Material.class, Tag.REGISTRY_ITEMS, logger);
+        }
+
+        public ExpSourceTable.Builder<Material> blocks() {
+            return blocks;
+        }
+
+        public ExpSourceTable.Builder<EntityType> entities() {
+            return entities;
+        }
+
+        public ExpSourceTable.Builder<Material> weapons() {
+            return weapons;
+        }
+
+        ExpSources build() {
+            return new ExpSources(this);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.orbis.skills.skills;
+
+import com.orbis.skills.OrbisSkills;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+
+
+public class ExperienceBuffer {
+
+    private final OrbisSkills plugin;
+    private final Map<UUID, Pending> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    public ExperienceBuffer(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    
+
+    public void add(Player player, Skill skill, double amount) {
+        Pending gains = pending.computeIfAbsent(player.getUniqueId(), uuid -> new Pending(player));
+        gains.add(skill, amount);
+
+        if (!flushScheduled && plugin.isEnabled()) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    
+
+    public void flush() {
+        flushScheduled = false;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Pending[] batch = pending.values().toArray(new Pending[0]);
+        pending.clear();
+
+        for (Pending gains : batch) {
+            BitSet touched = gains.touched;
+            for (int id = touched.nextSetBit(0); id >= 0; id = touched.nextSetBit(id + 1)) {
+                gains.skills[id].applyExperience(gains.player, gains.amounts[id]);
+            }
+        }
+    }
+
+    private static class Pending {
+        private final Player player;
+        private final BitSet touched = new BitSet();
+        private Skill[] skills = new Skill[8];
+        private double[] amounts = new double[8];
+
+        private Pending(Player player) {
+            this.player = player;
+        }
+
+        private void add(Skill skill, double amount) {
+            int id = skill.getId();
+            if (id >= skills.length) {
+                int size = Math.max(id + 1, skills.length * 2);
+                skills = Arrays.copyOf(skills, size);
+                amounts = Arrays.copyOf(amounts, size);
+            }
+
+            skills[id] = skill;
+            amounts[id] += amount;
+            touched.set(id);
+        }
+    }
+}
\ No newline at end of file
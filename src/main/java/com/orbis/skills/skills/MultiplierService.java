@@ -0,0 +1,162 @@
+package com.orbis.skills.skills;
+
+import com.orbis.skills.OrbisSkills;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+
+
+public class MultiplierService {
+
+    private final OrbisSkills plugin;
+    private final Map<UUID, double[]> multipliers = new HashMap<>();
+    private final List<Booster> boosters = new ArrayList<>();
+    private double baseMultiplier = 1.0;
+    private BukkitTask refreshTask;
+
+    public MultiplierService(OrbisSkills plugin) {
+        this.plugin = plugin;
+    }
+
+    
+
+    public void initialize() {
+        reload();
+
+       
+
+        long interval = plugin.getConfigManager().getSettings().getMultiplierRefreshInterval() * 20L;
+        refreshTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshAll, interval, interval);
+    }
+
+    
+
+    public void reload() {
+        baseMultiplier = plugin.getConfigManager().getSettings().getExpMultiplier();
+        refreshAll();
+    }
+
+    
+
+    public double getMultiplier(Player player, Skill skill) {
+        double[] values = multipliers.get(player.getUniqueId());
+        int id = skill.getId();
+        if (id < 0) {
+            return computeMultiplier(player, skill);
+        }
+        if (values == null || id >= values.length) {
+            values = refresh(player);
+        }
+        return values[id];
+    }
+
+    
+
+    public double[] refresh(Player player) {
+        SkillManager skillManager = plugin.getSkillManager();
+        double[] values = new double[skillManager.getSkillIdCount()];
+        for (Skill skill : skillManager.getAllSkills()) {
+            if (skill.getId() >= values.length) {
+                values = Arrays.copyOf(values, skill.getId() + 1);
+            }
+            values[skill.getId()] = computeMultiplier(player, skill);
+        }
+
+        multipliers.put(player.getUniqueId(), values);
+        return values;
+    }
+
+    public void refreshAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            refresh(player);
+        }
+    }
+
+    public void invalidate(UUID uuid) {
+        multipliers.remove(uuid);
+    }
+
+    
+
+    public Booster startBooster(Skill skill, double multiplier, long durationSeconds) {
+        Booster booster = new Booster(skill, multiplier, System.currentTimeMillis() + durationSeconds * 1000L);
+        boosters.add(booster);
+        refreshAll();
+
+        booster.task = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            boosters.remove(booster);
+            refreshAll();
+        }, Math.max(1L, durationSeconds * 20L));
+        return booster;
+    }
+
+    public List<Booster> getActiveBoosters() {
+        return Collections.unmodifiableList(boosters);
+    }
+
+    public void shutdown() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+        }
+        for (Booster booster : boosters) {
+            booster.task.cancel();
+        }
+        boosters.clear();
+        multipliers.clear();
+    }
+
+    private double computeMultiplier(Player player, Skill skill) {
+        double multiplier = baseMultiplier;
+
+       
+
+        if (player.hasPermission("orbisskills." + skill.getName() + ".multiplier.2")) {
+            multiplier = 2.0;
+        } else if (player.hasPermission("orbisskills." + skill.getName() + ".multiplier.1.5")) {
+            multiplier = 1.5;
+        }
+
+        for (Booster booster : boosters) {
+            if (booster.skill == null || booster.skill == skill) {
+                multiplier *= booster.multiplier;
+            }
+        }
+        return multiplier;
+    }
+
+    
+
+    public static class Booster {
+        private final Skill skill;
+        private final double multiplier;
+        private final long endsAt;
+        private BukkitTask task;
+
+        private Booster(Skill skill, double multiplier, long endsAt) {
+            this.skill = skill;
+            this.multiplier = multiplier;
+            this.endsAt = endsAt;
+        }
+
+        public Skill getSkill() {
+            return skill;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public long getEndsAt() {
+            return endsAt;
+        }
+    }
+}
\ No newline at end of file
@@ -1,191 +1,334 @@
-package com.orbis.skills.skills;
-
-import com.orbis.skills.OrbisSkills;
-import com.orbis.skills.abilities.Ability;
-import com.orbis.skills.events.SkillLevelUpEvent;
-import org.bukkit.Bukkit;
-import org.bukkit.Sound;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.Player;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
-public abstract class Skill {
-
-    protected final OrbisSkills plugin;
-    protected final String name;
-    protected final String displayName;
-    protected final Map<String, Ability> abilities = new HashMap<>();
-
-    public Skill(OrbisSkills plugin, String name) {
-        this.plugin = plugin;
-        this.name = name;
-        this.displayName = plugin.getConfig().getString("skills.display-names." + name,
-                name.substring(0, 1).toUpperCase() + name.substring(1));
-
-        
-
-        registerAbilities();
-    }
-
-    
-
-    protected abstract void registerAbilities();
-
-    
-
-    public String getName() {
-        return name;
-    }
-
-    
-
-    public String getDisplayName() {
-        return displayName;
-    }
-
-    
-
-    public void addExperience(Player player, double amount) {
-        UUID uuid = player.getUniqueId();
-        int oldLevel = plugin.getDataManager().getPlayerData(uuid).getSkillLevel(name);
-
-       
-
-        double multiplier = plugin.getConfig().getDouble("settings.exp-multiplier", 1.0);
-       
-
-        if (player.hasPermission("orbisskills." + name + ".multiplier.2")) {
-            multiplier = 2.0;
-        } else if (player.hasPermission("orbisskills." + name + ".multiplier.1.5")) {
-            multiplier = 1.5;
-        }
-
-       
-
-        plugin.getDataManager().addExperience(uuid, name, amount * multiplier);
-
-       
-
-        int newLevel = plugin.getDataManager().getPlayerData(uuid).getSkillLevel(name);
-        if (newLevel > oldLevel) {
-            handleLevelUp(player, oldLevel, newLevel);
-        }
-    }
-
-    
-
-    protected void handleLevelUp(Player player, int oldLevel, int newLevel) {
-       
-
-        SkillLevelUpEvent event = new SkillLevelUpEvent(player, this, oldLevel, newLevel);
-        Bukkit.getPluginManager().callEvent(event);
-
-        if (event.isCancelled()) {
-            return;
-        }
-
-       
-
-        if (plugin.getConfig().getBoolean("settings.level-up-messages", true)) {
-            player.sendMessage(plugin.getConfigManager().getColoredString("messages.level-up")
-                    .replace("{skill}", displayName)
-                    .replace("{level}", String.valueOf(newLevel)));
-        }
-
-       
-
-        if (plugin.getConfig().getBoolean("settings.level-up-titles", true)) {
-            String title = plugin.getConfigManager().getColoredString("messages.level-up-title")
-                    .replace("{skill}", displayName)
-                    .replace("{level}", String.valueOf(newLevel));
-
-            String subtitle = plugin.getConfigManager().getColoredString("messages.level-up-subtitle")
-                    .replace("{skill}", displayName)
-                    .replace("{level}", String.valueOf(newLevel));
-
-            player.sendTitle(title, subtitle, 10, 70, 20);
-        }
-
-       
-
-        if (plugin.getConfig().getBoolean("settings.level-up-sounds", true)) {
-            String soundName = plugin.getConfig().getString("sounds.level-up", "ENTITY_PLAYER_LEVELUP");
-            try {
-                Sound sound = Sound.valueOf(soundName);
-                player.playSound(player.getLocation(), sound, 1.0f, 1.0f);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid sound name in config: " + soundName);
-            }
-        }
-
-       
-
-        checkAbilityUnlocks(player, newLevel);
-    }
-
-    
-
-    private void checkAbilityUnlocks(Player player, int level) {
-        for (Ability ability : abilities.values()) {
-            if (ability.getUnlockLevel() == level) {
-                player.sendMessage(plugin.getConfigManager().getColoredString("messages.ability-unlock")
-                        .replace("{ability}", ability.getName())
-                        .replace("{skill}", displayName));
-            }
-        }
-    }
-
-    
-
-    public boolean hasAbility(String abilityName) {
-        return abilities.containsKey(abilityName.toLowerCase());
-    }
-
-    
-
-    public Ability getAbility(String abilityName) {
-        return abilities.get(abilityName.toLowerCase());
-    }
-
-    
-
-    public String getAbilityInfo(Player player, String abilityName) {
-        if (!hasAbility(abilityName)) {
-            return "0";
-        }
-
-        Ability ability = abilities.get(abilityName.toLowerCase());
-        int playerLevel = plugin.getDataManager().getPlayerData(player.getUniqueId()).getSkillLevel(name);
-
-        if (playerLevel < ability.getUnlockLevel()) {
-            return "Locked";
-        }
-
-        return ability.getInfoForLevel(playerLevel);
-    }
-
-    
-
-    protected void registerAbility(Ability ability) {
-        abilities.put(ability.getName().toLowerCase(), ability);
-    }
-
-    
-
-    protected Ability loadAbilityFromConfig(ConfigurationSection section) {
-        if (section == null) {
-            return null;
-        }
-
-        String abilityName = section.getName();
-        int unlockLevel = section.getInt("unlock-level", 1);
-        String description = section.getString("description", "No description available");
-
-       
-
-        return new Ability(abilityName, unlockLevel, description);
-    }
+package com.orbis.skills.skills;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.abilities.Ability;
+import com.orbis.skills.abilities.AbilityContext;
+import com.orbis.skills.abilities.AbilityHandle;
+import com.orbis.skills.config.Message;
+import com.orbis.skills.config.MessageCatalog;
+import com.orbis.skills.config.Settings;
+import com.orbis.skills.data.PlayerData;
+import com.orbis.skills.events.SkillLevelUpEvent;
+import com.orbis.skills.util.ExperienceUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public abstract class Skill {
+
+    private static final Ability[] NO_ABILITIES = new Ability[0];
+
+    protected final OrbisSkills plugin;
+    protected final String name;
+    protected final String displayName;
+    protected final Map<String, Ability> abilities = new HashMap<>();
+    private final List<AbilityHandle<?>> handles = new ArrayList<>();
+    private Ability[][] abilitiesByUnlockLevel = new Ability[0][];
+    private int id = -1;
+
+    public Skill(OrbisSkills plugin, String name) {
+        this.plugin = plugin;
+        this.name = name;
+        this.displayName = plugin.getConfig().getString("skills.display-names." + name,
+                name.substring(0, 1).toUpperCase() + name.substring(1));
+
+        
+
+        registerAbilities();
+    }
+
+    
+
+    protected abstract void registerAbilities();
+
+    
+
+    protected void registerExpSources(ExpSources.Builder sources) {
+    }
+
+    
+
+    public String getName() {
+        return name;
+    }
+
+    
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    
+
+    public int getId() {
+        return id;
+    }
+
+    
+
+    void setId(int id) {
+        this.id = id;
+
+       
+
+        for (Ability ability : abilities.values()) {
+            ability.setSkillId(id);
+        }
+    }
+
+    
+
+    public void addExperience(Player player, double amount) {
+        addExperience(player, amount, !plugin.getConfigManager().getSettings().isExpCoalescing());
+    }
+
+    
+
+    public void addExperience(Player player, double amount, boolean immediate) {
+        double multiplier = plugin.getMultiplierService().getMultiplier(player, this);
+
+        if (immediate) {
+            applyExperience(player, amount * multiplier);
+        } else {
+            plugin.getSkillManager().getExperienceBuffer().add(player, this, amount * multiplier);
+        }
+    }
+
+    
+
+    void applyExperience(Player player, double amount) {
+        PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
+        if (data == null) {
+           
+
+            return;
+        }
+        int oldLevel = data.getSkillLevel(id);
+
+        data.addSkillExp(id, amount);
+
+       
+
+        int newLevel = data.getSkillLevel(id);
+        if (newLevel > oldLevel) {
+            handleLevelUp(player, oldLevel, newLevel);
+        }
+    }
+
+    
+
+    protected void handleLevelUp(Player player, int oldLevel, int newLevel) {
+       
+
+        SkillLevelUpEvent event = new SkillLevelUpEvent(player, this, oldLevel, newLevel);
+        Bukkit.getPluginManager().callEvent(event);
+
+        if (event.isCancelled()) {
+            return;
+        }
+
+       
+
+        Settings settings = plugin.getConfigManager().getSettings();
+        if (settings.isLevelUpMessages()) {
+            player.sendMessage(plugin.getConfigManager().getMessages()
+                    .render(Message.LEVEL_UP, displayName, newLevel));
+        }
+
+       
+
+        if (settings.isLevelUpTitles()) {
+            MessageCatalog messages = plugin.getConfigManager().getMessages();
+            String title = messages.render(Message.LEVEL_UP_TITLE, displayName, newLevel);
+            String subtitle = messages.render(Message.LEVEL_UP_SUBTITLE, displayName, newLevel);
+
+            player.sendTitle(title, subtitle, 10, 70, 20);
+        }
+
+       
+
+        if (settings.isLevelUpSounds() && settings.getLevelUpSound() != null) {
+            player.playSound(player.getLocation(), settings.getLevelUpSound(), 1.0f, 1.0f);
+        }
+
+       
+
+        checkAbilityUnlocks(player, oldLevel, newLevel);
+    }
+
+    
+
+    private void checkAbilityUnlocks(Player player, int oldLevel, int newLevel) {
+       
+
+        for (int level = oldLevel + 1; level <= newLevel; level++) {
+            for (Ability ability : getAbilitiesUnlockedAt(level)) {
+                player.sendMessage(plugin.getConfigManager().getMessages()
+                        .render(Message.ABILITY_UNLOCK, ability.getName(), displayName));
+            }
+        }
+    }
+
+    
+
+    public Ability[] getAbilitiesUnlockedAt(int level) {
+        Ability[][] index = abilitiesByUnlockLevel;
+        if (level < 0 || level >= index.length || index[level] == null) {
+            return NO_ABILITIES;
+        }
+        return index[level];
+    }
+
+    
+
+    public boolean hasAbility(String abilityName) {
+        return abilities.containsKey(abilityName.toLowerCase());
+    }
+
+    
+
+    public Ability getAbility(String abilityName) {
+        return abilities.get(abilityName.toLowerCase());
+    }
+
+    
+
+    protected AbilityHandle<Ability> handle(String abilityName) {
+        return handle(abilityName, Ability.class);
+    }
+
+    
+
+    protected <A extends Ability> AbilityHandle<A> handle(String abilityName, Class<A> type) {
+        AbilityHandle<A> handle = new AbilityHandle<>(abilityName, type);
+        handle.resolve(abilities.get(handle.getId()));
+        handles.add(handle);
+        return handle;
+    }
+
+    
+
+    public AbilityContext context(Player player) {
+        return new AbilityContext(plugin, player, getLevel(player));
+    }
+
+    
+
+    public int getLevel(Player player) {
+        PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
+        return data != null ? data.getSkillLevel(id) : 0;
+    }
+
+    
+
+    public void reloadAbilities() {
+        abilities.clear();
+        abilitiesByUnlockLevel = new Ability[0][];
+        registerAbilities();
+
+        for (AbilityHandle<?> handle : handles) {
+            handle.resolve(abilities.get(handle.getId()));
+        }
+    }
+
+    
+
+    public String getAbilityInfo(Player player, String abilityName) {
+        if (!hasAbility(abilityName)) {
+            return "0";
+        }
+
+        Ability ability = abilities.get(abilityName.toLowerCase());
+        int playerLevel = getLevel(player);
+
+        if (playerLevel < ability.getUnlockLevel()) {
+            return "Locked";
+        }
+
+        return ability.getInfoForLevel(playerLevel);
+    }
+
+    
+
+    protected void registerAbility(Ability ability) {
+        ability.setSkillId(id);
+        ability.compileEffects(ExperienceUtil.getCurve(name).getMaxLevel());
+        abilities.put(ability.getName().toLowerCase(), ability);
+
+        for (AbilityHandle<?> handle : handles) {
+            if (handle.getId().equals(ability.getName().toLowerCase())) {
+                handle.resolve(ability);
+            }
+        }
+
+       
+
+        int highest = 0;
+        for (Ability registered : abilities.values()) {
+            highest = Math.max(highest, registered.getUnlockLevel());
+        }
+
+        Ability[][] index = new Ability[highest + 1][];
+        for (Ability registered : abilities.values()) {
+            int level = registered.getUnlockLevel();
+            if (level < 0) {
+                continue;
+            }
+
+            Ability[] current = index[level];
+            if (current == null) {
+                index[level] = new Ability[]{registered};
+            } else {
+                index[level] = Arrays.copyOf(current, current.length + 1);
+                index[level][current.length] = registered;
+            }
+        }
+        abilitiesByUnlockLevel = index;
+    }
+
+    
+
+    protected Ability loadAbilityFromConfig(ConfigurationSection section) {
+        if (section == null) {
+            return null;
+        }
+
+        String abilityName = section.getName();
+        int unlockLevel = section.getInt("unlock-level", 1);
+        String description = section.getString("description", "No description available");
+
+       
+
+        Ability ability = new Ability(abilityName, unlockLevel, description);
+
+        String interpolation = section.getString("interpolation", "step");
+        try {
+            ability.setInterpolation(Ability.Interpolation.valueOf(interpolation.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid interpolation '" + interpolation + "' for ability " + abilityName);
+        }
+
+       
+
+        ConfigurationSection effectsSection = section.getConfigurationSection("effects");
+        if (effectsSection != null) {
+            Map<Integer, Double> effects = new HashMap<>();
+            for (String key : effectsSection.getKeys(false)) {
+                try {
+                    effects.put(Integer.parseInt(key), effectsSection.getDouble(key));
+                } catch (NumberFormatException e) {
+                    plugin.getLogger().warning("Invalid effect level '" + key + "' for ability " + abilityName);
+                }
+            }
+            ability.setLevelEffects(effects);
+        }
+
+        return ability;
+    }
 }
\ No newline at end of file
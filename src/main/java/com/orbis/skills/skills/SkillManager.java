@@ -1,98 +1,214 @@
-package com.orbis.skills.skills;
-
-import com.orbis.skills.OrbisSkills;
-import org.bukkit.configuration.ConfigurationSection;
-
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-
-public class SkillManager {
-
-    private final OrbisSkills plugin;
-    private final Map<String, Skill> skills = new HashMap<>();
-
-    
-
-    public SkillManager(OrbisSkills plugin) {
-        this.plugin = plugin;
-    }
-
-    
-
-    public void registerSkills() {
-        ConfigurationSection enabledSection = plugin.getConfig().getConfigurationSection("skills.enabled");
-        if (enabledSection == null) {
-            plugin.getLogger().warning("No enabled skills section found in config!");
-            return;
-        }
-
-       
-
-        if (enabledSection.getBoolean("fishing", true)) {
-            registerSkill(new FishingSkill(plugin));
-        }
-
-       
-
-        if (enabledSection.getBoolean("fencing", true)) {
-            registerSkill(new FencingSkill(plugin));
-        }
-
-       
-
-        if (enabledSection.getBoolean("archery", true)) {
-            registerSkill(new ArcherySkill(plugin));
-        }
-
-       
-
-        if (enabledSection.getBoolean("mining", true)) {
-            registerSkill(new MiningSkill(plugin));
-        }
-
-       
-
-        if (enabledSection.getBoolean("woodcutting", true)) {
-            registerSkill(new WoodcuttingSkill(plugin));
-        }
-
-       
-
-        if (enabledSection.getBoolean("farming", true)) {
-            registerSkill(new FarmingSkill(plugin));
-        }
-
-       
-
-        if (enabledSection.getBoolean("acrobatics", true)) {
-            registerSkill(new AcrobaticsSkill(plugin));
-        }
-
-        plugin.getLogger().info("Registered " + skills.size() + " skills!");
-    }
-
-    
-
-    public void registerSkill(Skill skill) {
-        skills.put(skill.getName().toLowerCase(), skill);
-    }
-
-    
-
-    public Skill getSkill(String name) {
-        return skills.get(name.toLowerCase());
-    }
-
-    
-
-    public Collection<Skill> getAllSkills() {
-        return skills.values();
-    }
-
-    
-
-    public int getSkillCount() {
-        return skills.size();
-    }
+package com.orbis.skills.skills;
+
+import com.orbis.skills.OrbisSkills;
+import com.orbis.skills.util.ExpSourceTable;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SkillManager {
+
+    private final OrbisSkills plugin;
+    private final Map<String, Skill> skills = new HashMap<>();
+    private final Map<String, Integer> skillIds = new ConcurrentHashMap<>();
+    private volatile String[] skillNames = new String[0];
+    private final ExperienceBuffer experienceBuffer;
+    private volatile ExpSources expSources;
+
+    
+
+    public SkillManager(OrbisSkills plugin) {
+        this.plugin = plugin;
+        this.experienceBuffer = new ExperienceBuffer(plugin);
+        this.expSources = new ExpSources.Builder(plugin.getLogger()).build();
+    }
+
+    
+
+    public ExperienceBuffer getExperienceBuffer() {
+        return experienceBuffer;
+    }
+
+    
+
+    public ExpSources getExpSources() {
+        return expSources;
+    }
+
+    
+
+    public void buildExpSources() {
+        ExpSources.Builder builder = new ExpSources.Builder(plugin.getLogger());
+        for (Skill skill : skills.values()) {
+            skill.registerExpSources(builder);
+        }
+
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("experience.sources");
+        if (section != null) {
+            loadExpSources(section.getConfigurationSection("blocks"), builder.blocks());
+            loadExpSources(section.getConfigurationSection("entities"), builder.entities());
+            loadExpSources(section.getConfigurationSection("weapons"), builder.weapons());
+        }
+
+        expSources = builder.build();
+    }
+
+    private void loadExpSources(ConfigurationSection section, ExpSourceTable.Builder<?> table) {
+        if (section == null) {
+            return;
+        }
+
+        for (String skillName : section.getKeys(false)) {
+            int id = getSkillId(skillName);
+            if (id < 0) {
+                plugin.getLogger().warning("Unknown skill in " + section.getCurrentPath() + ": " + skillName);
+                continue;
+            }
+            table.load(id, section.getConfigurationSection(skillName));
+        }
+    }
+
+    
+
+    public void registerSkills() {
+        ConfigurationSection enabledSection = plugin.getConfig().getConfigurationSection("skills.enabled");
+        if (enabledSection == null) {
+            plugin.getLogger().warning("No enabled skills section found in config!");
+            return;
+        }
+
+       
+
+        if (enabledSection.getBoolean("fishing", true)) {
+            registerSkill(new FishingSkill(plugin));
+        }
+
+       
+
+        if (enabledSection.getBoolean("fencing", true)) {
+            registerSkill(new FencingSkill(plugin));
+        }
+
+       
+
+        if (enabledSection.getBoolean("archery", true)) {
+            registerSkill(new ArcherySkill(plugin));
+        }
+
+       
+
+        if (enabledSection.getBoolean("mining", true)) {
+            registerSkill(new MiningSkill(plugin));
+        }
+
+       
+
+        if (enabledSection.getBoolean("woodcutting", true)) {
+            registerSkill(new WoodcuttingSkill(plugin));
+        }
+
+       
+
+        if (enabledSection.getBoolean("farming", true)) {
+            registerSkill(new FarmingSkill(plugin));
+        }
+
+       
+
+        if (enabledSection.getBoolean("acrobatics", true)) {
+            registerSkill(new AcrobaticsSkill(plugin));
+        }
+
+        plugin.getLogger().info("Registered " + skills.size() + " skills!");
+    }
+
+    
+
+    public void registerSkill(Skill skill) {
+        String key = skill.getName().toLowerCase();
+        skill.setId(getOrCreateSkillId(key));
+        skills.put(key, skill);
+    }
+
+    
+
+    public void unregisterSkill(Skill skill) {
+        skills.remove(skill.getName().toLowerCase(), skill);
+    }
+
+    
+
+    public void reloadAbilities() {
+        for (Skill skill : skills.values()) {
+            skill.reloadAbilities();
+        }
+    }
+
+    
+
+    public int getSkillId(String name) {
+        Integer id = skillIds.get(name);
+        if (id == null) {
+            id = skillIds.get(name.toLowerCase());
+        }
+        return id != null ? id : -1;
+    }
+
+    
+
+    public int getOrCreateSkillId(String name) {
+        int id = getSkillId(name);
+        return id >= 0 ? id : createSkillId(name.toLowerCase());
+    }
+
+    
+
+    private synchronized int createSkillId(String key) {
+        Integer id = skillIds.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = skillNames.length;
+        String[] names = Arrays.copyOf(skillNames, newId + 1);
+        names[newId] = key;
+        skillNames = names;
+        skillIds.put(key, newId);
+        return newId;
+    }
+
+    
+
+    public String getSkillName(int id) {
+        String[] names = skillNames;
+        return id >= 0 && id < names.length ? names[id] : null;
+    }
+
+    
+
+    public int getSkillIdCount() {
+        return skillNames.length;
+    }
+
+    
+
+    public Skill getSkill(String name) {
+        return skills.get(name.toLowerCase());
+    }
+
+    
+
+    public Collection<Skill> getAllSkills() {
+        return skills.values();
+    }
+
+    
+
+    public int getSkillCount() {
+        return skills.size();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,246 @@
+package com.orbis.skills.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+
+
+public final class ConnectedBlockSearch {
+
+    private static final int[][] FACES = {
+            {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}, {1, 0, 0}, {-1, 0, 0}
+    };
+    private static final int[][] CUBE = cube();
+
+    private ConnectedBlockSearch() {
+    }
+
+    
+
+    public static void search(Plugin plugin, Block origin, Predicate<Material> matches, boolean diagonal,
+                              int maxBlocks, int maxDepth, Consumer<List<Block>> callback) {
+        Search search = new Search(plugin, origin, matches, diagonal ? CUBE : FACES,
+                Math.max(0, maxBlocks), maxDepth, callback);
+        search.snapshot(Chunk.getChunkKey(origin.getX() >> 4, origin.getZ() >> 4));
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, search::run);
+    }
+
+    
+
+    private static final class Search {
+        private final Plugin plugin;
+        private final World world;
+        private final long origin;
+        private final Predicate<Material> matches;
+        private final int[][] offsets;
+        private final int maxBlocks;
+        private final int maxDepth;
+        private final int minY;
+        private final int maxY;
+        private final Consumer<List<Block>> callback;
+
+        private final Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        private final LongHashSet unloaded = new LongHashSet();
+        private final LongHashSet missing = new LongHashSet();
+        private final long[] queue;
+        private final int[] depths;
+        private final LongHashSet visited;
+        private final long[] found;
+        private int head = 0;
+        private int tail = 0;
+        private int count = 0;
+
+       
+
+        private long[] deferred = new long[16];
+        private int[] deferredDepths = new int[16];
+        private int deferredCount = 0;
+
+        private Search(Plugin plugin, Block origin, Predicate<Material> matches, int[][] offsets,
+                       int maxBlocks, int maxDepth, Consumer<List<Block>> callback) {
+            this.plugin = plugin;
+            this.world = origin.getWorld();
+            this.origin = pack(origin.getX(), origin.getY(), origin.getZ());
+            this.matches = matches;
+            this.offsets = offsets;
+            this.maxBlocks = maxBlocks;
+            this.maxDepth = maxDepth;
+            this.minY = world.getMinHeight();
+            this.maxY = world.getMaxHeight();
+            this.callback = callback;
+
+           
+
+            int capacity = 1 + (maxBlocks + 1) * offsets.length;
+            this.queue = new long[capacity];
+            this.depths = new int[capacity];
+            this.visited = new LongHashSet(capacity);
+            this.found = new long[maxBlocks];
+
+            queue[tail++] = this.origin;
+            visited.add(this.origin);
+        }
+
+        
+
+        private void snapshot(long chunkKey) {
+            int chunkX = (int) chunkKey;
+            int chunkZ = (int) (chunkKey >> 32);
+            if (world.isChunkLoaded(chunkX, chunkZ)) {
+                snapshots.put(chunkKey, world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+            } else {
+                unloaded.add(chunkKey);
+            }
+        }
+
+        private void run() {
+            while (head < tail && count < maxBlocks) {
+                long position = queue[head];
+                int depth = depths[head];
+                head++;
+
+                int x = unpackX(position);
+                int y = unpackY(position);
+                int z = unpackZ(position);
+                if (position != origin) {
+                    long chunkKey = Chunk.getChunkKey(x >> 4, z >> 4);
+                    ChunkSnapshot snapshot = snapshots.get(chunkKey);
+                    if (snapshot == null) {
+                        if (!unloaded.contains(chunkKey)) {
+                            missing.add(chunkKey);
+                            defer(position, depth);
+                        }
+                        continue;
+                    }
+                    if (!matches.test(snapshot.getBlockType(x & 15, y, z & 15))) {
+                        continue;
+                    }
+                    found[count++] = position;
+                }
+
+                if (depth >= maxDepth) {
+                    continue;
+                }
+
+                for (int[] offset : offsets) {
+                    int neighborY = y + offset[1];
+                    if (neighborY < minY || neighborY >= maxY) {
+                        continue;
+                    }
+
+                    long neighbor = pack(x + offset[0], neighborY, z + offset[2]);
+                    if (visited.add(neighbor)) {
+                        queue[tail] = neighbor;
+                        depths[tail] = depth + 1;
+                        tail++;
+                    }
+                }
+            }
+
+            if (!plugin.isEnabled()) {
+                return;
+            }
+            if (count < maxBlocks && deferredCount > 0) {
+                Bukkit.getScheduler().runTask(plugin, this::resume);
+            } else {
+                Bukkit.getScheduler().runTask(plugin, this::complete);
+            }
+        }
+
+        private void defer(long position, int depth) {
+            if (deferredCount == deferred.length) {
+                deferred = Arrays.copyOf(deferred, deferredCount * 2);
+                deferredDepths = Arrays.copyOf(deferredDepths, deferredCount * 2);
+            }
+            deferred[deferredCount] = position;
+            deferredDepths[deferredCount] = depth;
+            deferredCount++;
+        }
+
+        private void resume() {
+            for (long chunkKey : missing.toArray()) {
+                snapshot(chunkKey);
+            }
+            missing.clear();
+
+                   
+
+            head = 0;
+            tail = 0;
+            for (int i = 0; i < deferredCount; i++) {
+                queue[tail] = deferred[i];
+                depths[tail] = deferredDepths[i];
+                tail++;
+            }
+            deferredCount = 0;
+
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, this::run);
+        }
+
+        private void complete() {
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long position = found[i];
+                int x = unpackX(position);
+                int z = unpackZ(position);
+                if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                    continue;
+                }
+
+       
+
+                Block block = world.getBlockAt(x, unpackY(position), z);
+                if (matches.test(block.getType())) {
+                    blocks.add(block);
+                }
+            }
+            callback.accept(blocks);
+        }
+    }
+
+    
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(long position) {
+        return (int) (position >> 38);
+    }
+
+    public static int unpackY(long position) {
+        return (int) (position << 52 >> 52);
+    }
+
+    public static int unpackZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
+
+    private static int[][] cube() {
+        int[][] offsets = new int[26][];
+        int index = 0;
+        for (int x = -1; x <= 1; x++) {
+            for (int y = -1; y <= 1; y++) {
+                for (int z = -1; z <= 1; z++) {
+                    if (x != 0 || y != 0 || z != 0) {
+                        offsets[index++] = new int[]{x, y, z};
+                    }
+                }
+            }
+        }
+        return offsets;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,427 @@
+package com.orbis.skills.util;
+
+
+
+public final class ExpFormula {
+
+    private final String source;
+    private final Node root;
+
+    private ExpFormula(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    
+
+    public static ExpFormula compile(String source) {
+        Parser parser = new Parser(source);
+        Node root = parser.parseExpression();
+        parser.skipWhitespace();
+        if (!parser.atEnd()) {
+            throw parser.error("Unexpected '" + parser.peek() + "'");
+        }
+        return new ExpFormula(source, root);
+    }
+
+    public double evaluate(double base, int level, double multiplier) {
+        return root.eval(base, level, multiplier);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private interface Node {
+        double eval(double base, int level, double multiplier);
+    }
+
+    private static final class Constant implements Node {
+        private final double value;
+
+        private Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double eval(double base, int level, double multiplier) {
+            return value;
+        }
+    }
+
+    private enum Variable implements Node {
+        BASE {
+            @Override
+            public double eval(double base, int level, double multiplier) {
+                return base;
+            }
+        },
+        LEVEL {
+            @Override
+            public double eval(double base, int level, double multiplier) {
+                return level;
+            }
+        },
+        MULTIPLIER {
+            @Override
+            public double eval(double base, int level, double multiplier) {
+                return multiplier;
+            }
+        }
+    }
+
+    private static final class Negate implements Node {
+        private final Node operand;
+
+        private Negate(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public double eval(double base, int level, double multiplier) {
+            return -operand.eval(base, level, multiplier);
+        }
+    }
+
+    private static final class Binary implements Node {
+        private final char operator;
+        private final Node left;
+        private final Node right;
+
+        private Binary(char operator, Node left, Node right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public double eval(double base, int level, double multiplier) {
+            double a = left.eval(base, level, multiplier);
+            double b = right.eval(base, level, multiplier);
+            switch (operator) {
+                case '+':
+                    return a + b;
+                case '-':
+                    return a - b;
+                case '*':
+                    return a * b;
+                case '/':
+                    return a / b;
+                case '%':
+                    return a % b;
+                default:
+                    return Math.pow(a, b);
+            }
+        }
+    }
+
+    private enum Function {
+        MIN(2) {
+            @Override
+            double apply(double a, double b) {
+                return Math.min(a, b);
+            }
+        },
+        MAX(2) {
+            @Override
+            double apply(double a, double b) {
+                return Math.max(a, b);
+            }
+        },
+        POW(2) {
+            @Override
+            double apply(double a, double b) {
+                return Math.pow(a, b);
+            }
+        },
+        SQRT(1) {
+            @Override
+            double apply(double a, double b) {
+                return Math.sqrt(a);
+            }
+        },
+        ABS(1) {
+            @Override
+            double apply(double a, double b) {
+                return Math.abs(a);
+            }
+        },
+        FLOOR(1) {
+            @Override
+            double apply(double a, double b) {
+                return Math.floor(a);
+            }
+        },
+        CEIL(1) {
+            @Override
+            double apply(double a, double b) {
+                return Math.ceil(a);
+            }
+        },
+        ROUND(1) {
+            @Override
+            double apply(double a, double b) {
+                return Math.round(a);
+            }
+        },
+        LOG(1) {
+            @Override
+            double apply(double a, double b) {
+                return Math.log(a);
+            }
+        };
+
+        private final int arity;
+
+        Function(int arity) {
+            this.arity = arity;
+        }
+
+        abstract double apply(double a, double b);
+
+        private static Function byName(String name) {
+            for (Function function : values()) {
+                if (function.name().equalsIgnoreCase(name)) {
+                    return function;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class UnaryCall implements Node {
+        private final Function function;
+        private final Node operand;
+
+        private UnaryCall(Function function, Node operand) {
+            this.function = function;
+            this.operand = operand;
+        }
+
+        @Override
+        public double eval(double base, int level, double multiplier) {
+            return function.apply(operand.eval(base, level, multiplier), 0);
+        }
+    }
+
+    private static final class BinaryCall implements Node {
+        private final Function function;
+        private final Node first;
+        private final Node second;
+
+        private BinaryCall(Function function, Node first, Node second) {
+            this.function = function;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public double eval(double base, int level, double multiplier) {
+            return function.apply(first.eval(base, level, multiplier), second.eval(base, level, multiplier));
+        }
+    }
+
+    
+
+    private static final class Parser {
+        private final String input;
+        private int position = 0;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+       
+
+        private Node parseExpression() {
+            Node node = parseTerm();
+            while (true) {
+                skipWhitespace();
+                if (accept('+')) {
+                    node = binary('+', node, parseTerm());
+                } else if (accept('-')) {
+                    node = binary('-', node, parseTerm());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+       
+
+        private Node parseTerm() {
+            Node node = parseUnary();
+            while (true) {
+                skipWhitespace();
+                if (accept('*')) {
+                    node = binary('*', node, parseUnary());
+                } else if (accept('/')) {
+                    node = binary('/', node, parseUnary());
+                } else if (accept('%')) {
+                    node = binary('%', node, parseUnary());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+       
+
+        private Node parseUnary() {
+            skipWhitespace();
+            if (accept('-')) {
+                Node operand = parseUnary();
+                return operand instanceof Constant ? new Constant(-((Constant) operand).value) : new Negate(operand);
+            }
+            if (accept('+')) {
+                return parseUnary();
+            }
+            return parsePower();
+        }
+
+       
+
+        private Node parsePower() {
+            Node node = parsePrimary();
+            skipWhitespace();
+            if (accept('^')) {
+                return binary('^', node, parseUnary());
+            }
+            return node;
+        }
+
+        private Node parsePrimary() {
+            skipWhitespace();
+            if (atEnd()) {
+                throw error("Unexpected end of formula");
+            }
+
+            char c = peek();
+            if (accept('(')) {
+                Node node = parseExpression();
+                expect(')');
+                return node;
+            }
+            if (Character.isDigit(c) || c == '.') {
+                return parseNumber();
+            }
+            if (Character.isLetter(c)) {
+                return parseIdentifier();
+            }
+            throw error("Unexpected '" + c + "'");
+        }
+
+        private Node parseNumber() {
+            int start = position;
+            while (!atEnd() && (Character.isDigit(peek()) || peek() == '.')) {
+                position++;
+            }
+            if (!atEnd() && (peek() == 'e' || peek() == 'E')) {
+                position++;
+                if (!atEnd() && (peek() == '+' || peek() == '-')) {
+                    position++;
+                }
+                while (!atEnd() && Character.isDigit(peek())) {
+                    position++;
+                }
+            }
+
+            String text = input.substring(start, position);
+            try {
+                return new Constant(Double.parseDouble(text));
+            } catch (NumberFormatException e) {
+                position = start;
+                throw error("Invalid number '" + text + "'");
+            }
+        }
+
+        private Node parseIdentifier() {
+            int start = position;
+            while (!atEnd() && (Character.isLetterOrDigit(peek()) || peek() == '_')) {
+                position++;
+            }
+            String name = input.substring(start, position).toLowerCase();
+
+            switch (name) {
+                case "base":
+                    return Variable.BASE;
+                case "level":
+                    return Variable.LEVEL;
+                case "multiplier":
+                    return Variable.MULTIPLIER;
+                default:
+                    break;
+            }
+
+            Function function = Function.byName(name);
+            if (function == null) {
+                position = start;
+                throw error("Unknown variable or function '" + name + "'");
+            }
+
+            skipWhitespace();
+            expect('(');
+            Node first = parseExpression();
+            Node second = null;
+            if (function.arity == 2) {
+                skipWhitespace();
+                expect(',');
+                second = parseExpression();
+            }
+            skipWhitespace();
+            expect(')');
+
+            Node call = second == null ? new UnaryCall(function, first) : new BinaryCall(function, first, second);
+            if (first instanceof Constant && (second == null || second instanceof Constant)) {
+                return new Constant(call.eval(0, 0, 0));
+            }
+            return call;
+        }
+
+        private Node binary(char operator, Node left, Node right) {
+            Node node = new Binary(operator, left, right);
+            if (left instanceof Constant && right instanceof Constant) {
+                return new Constant(node.eval(0, 0, 0));
+            }
+            return node;
+        }
+
+        private void skipWhitespace() {
+            while (!atEnd() && Character.isWhitespace(peek())) {
+                position++;
+            }
+        }
+
+        private boolean atEnd() {
+            return position >= input.length();
+        }
+
+        private char peek() {
+            return input.charAt(position);
+        }
+
+        private boolean accept(char c) {
+            if (!atEnd() && peek() == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            skipWhitespace();
+            if (!accept(c)) {
+                throw error(atEnd() ? "Expected '" + c + "' but the formula ended" : "Expected '" + c + "' but found '" + peek() + "'");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + (position + 1) + " in \"" + input + "\"");
+        }
+    }
+}
\ No newline at end of file
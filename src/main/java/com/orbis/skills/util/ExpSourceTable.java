@@ -0,0 +1,161 @@
+package com.orbis.skills.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+
+
+public final class ExpSourceTable<T extends Enum<T>> {
+
+    private static final int[] NONE = new int[0];
+
+    private final int[][] skillIds;
+    private final double[][] values;
+
+    private ExpSourceTable(int[][] skillIds, double[][] values) {
+        this.skillIds = skillIds;
+        this.values = values;
+    }
+
+    
+
+    public int[] getSkills(T type) {
+        int[] ids = skillIds[type.ordinal()];
+        return ids != null ? ids : NONE;
+    }
+
+    
+
+    public boolean has(T type, int skillId) {
+        return !Double.isNaN(getExp(type, skillId));
+    }
+
+    
+
+    public double getExp(T type, int skillId) {
+        int ordinal = type.ordinal();
+        int[] ids = skillIds[ordinal];
+        if (ids != null) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == skillId) {
+                    return values[ordinal][i];
+                }
+            }
+        }
+        return Double.NaN;
+    }
+
+    
+
+    public double getExp(T type, int skillId, double def) {
+        double exp = getExp(type, skillId);
+        return Double.isNaN(exp) ? def : exp;
+    }
+
+    public static <T extends Enum<T> & Keyed> Builder<T> builder(Class<T> type, String tagRegistry, Logger logger) {
+        return new Builder<>(type, tagRegistry, logger);
+    }
+
+    public static final class Builder<T extends Enum<T> & Keyed> {
+        private final Class<T> type;
+        private final String tagRegistry;
+        private final Logger logger;
+        private final int[][] skillIds;
+        private final double[][] values;
+
+        private Builder(Class<T> type, String tagRegistry, Logger logger) {
+            this.type = type;
+            this.tagRegistry = tagRegistry;
+            this.logger = logger;
+            int size = type.getEnumConstants().length;
+            this.skillIds = new int[size][];
+            this.values = new double[size][];
+        }
+
+        
+
+        public Builder<T> put(int skillId, T constant, double exp) {
+            if (skillId < 0) {
+                return this;
+            }
+
+            int ordinal = constant.ordinal();
+            int[] ids = skillIds[ordinal];
+            if (ids == null) {
+                skillIds[ordinal] = new int[]{skillId};
+                values[ordinal] = new double[]{exp};
+                return this;
+            }
+
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == skillId) {
+                    values[ordinal][i] = exp;
+                    return this;
+                }
+            }
+            skillIds[ordinal] = Arrays.copyOf(ids, ids.length + 1);
+            skillIds[ordinal][ids.length] = skillId;
+            values[ordinal] = Arrays.copyOf(values[ordinal], ids.length + 1);
+            values[ordinal][ids.length] = exp;
+            return this;
+        }
+
+        
+
+        public Builder<T> putTag(int skillId, Tag<T> tag, double exp) {
+            for (T constant : tag.getValues()) {
+                put(skillId, constant, exp);
+            }
+            return this;
+        }
+
+        
+
+        public Builder<T> load(int skillId, ConfigurationSection section) {
+            if (section == null || skillId < 0) {
+                return this;
+            }
+
+            for (String key : section.getKeys(false)) {
+                if (!key.startsWith("#")) {
+                    continue;
+                }
+
+                Tag<T> tag = resolveTag(key.substring(1));
+                if (tag == null) {
+                    logger.warning("Unknown tag in " + section.getCurrentPath() + ": " + key);
+                    continue;
+                }
+                putTag(skillId, tag, section.getDouble(key));
+            }
+
+            for (String key : section.getKeys(false)) {
+                if (key.startsWith("#")) {
+                    continue;
+                }
+
+                try {
+                    put(skillId, Enum.valueOf(type, key.toUpperCase()), section.getDouble(key));
+                } catch (IllegalArgumentException e) {
+                    logger.warning("Invalid " + type.getSimpleName() + " in " + section.getCurrentPath() + ": " + key);
+                }
+            }
+            return this;
+        }
+
+        public ExpSourceTable<T> build() {
+            return new ExpSourceTable<>(skillIds, values);
+        }
+
+        private Tag<T> resolveTag(String name) {
+            NamespacedKey key = NamespacedKey.fromString(name.toLowerCase());
+            return key != null ? Bukkit.getTag(tagRegistry, key, type) : null;
+        }
+    }
+}
\ No newline at end of file
@@ -1,82 +1,178 @@
-package com.orbis.skills.util;
-
-import com.orbis.skills.OrbisSkills;
-
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
-
-public class ExperienceUtil {
-
-    private static final ScriptEngine engine = new ScriptEngineManager().getEngineByName("JavaScript");
-
-    
-
-    public static double getExpToNextLevel(int currentLevel) {
-       
-
-        return 100 * (1 + (currentLevel * 0.1));
-    }
-
-    
-
-    public static double calculateExp(String formula, double baseExp, int level, double multiplier) {
-        try {
-           
-
-            String processedFormula = formula
-                    .replace("base", String.valueOf(baseExp))
-                    .replace("level", String.valueOf(level))
-                    .replace("multiplier", String.valueOf(multiplier));
-
-           
-
-            Object result = engine.eval(processedFormula);
-            if (result instanceof Number) {
-                return ((Number) result).doubleValue();
-            }
-            return baseExp * multiplier;
-        } catch (ScriptException e) {
-            OrbisSkills.getInstance().getLogger().warning("Error evaluating exp formula: " + formula);
-            OrbisSkills.getInstance().getLogger().warning(e.getMessage());
-            return baseExp * multiplier;
-        }
-    }
-
-    
-
-    public static double getTotalExpToLevel(int level) {
-        double total = 0;
-        for (int i = 0; i < level; i++) {
-            total += getExpToNextLevel(i);
-        }
-        return total;
-    }
-
-    
-
-    public static int getLevelForExp(double totalExp) {
-        int level = 0;
-        double expNeeded = 0;
-
-        while (true) {
-            expNeeded += getExpToNextLevel(level);
-            if (expNeeded > totalExp) {
-                return level;
-            }
-            level++;
-        }
-    }
-
-    
-
-    public static String formatExp(double exp) {
-        if (exp >= 1000000) {
-            return String.format("%.2fM", exp / 1000000);
-        } else if (exp >= 1000) {
-            return String.format("%.2fK", exp / 1000);
-        } else {
-            return String.format("%.1f", exp);
-        }
-    }
+package com.orbis.skills.util;
+
+import com.orbis.skills.OrbisSkills;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+public class ExperienceUtil {
+
+    private static final String DEFAULT_FORMULA = "base * (1 + (level * 0.1)) * multiplier";
+
+    private static volatile ExpFormula defaultFormula = ExpFormula.compile(DEFAULT_FORMULA);
+    private static volatile Map<String, ExpFormula> skillFormulas = Collections.emptyMap();
+
+    private static volatile LevelCurve defaultCurve = LevelCurve.linear(100);
+    private static volatile Map<String, LevelCurve> skillCurves = Collections.emptyMap();
+   
+
+    private static volatile LevelCurve[] curvesById = new LevelCurve[0];
+
+    
+
+    public static double getExpToNextLevel(int currentLevel) {
+        return defaultCurve.getExpToNextLevel(currentLevel);
+    }
+
+    
+
+    public static LevelCurve getCurve(String skillName) {
+        LevelCurve curve = skillCurves.get(skillName.toLowerCase());
+        return curve != null ? curve : defaultCurve;
+    }
+
+    
+
+    public static LevelCurve getCurve(int skillId) {
+        LevelCurve[] curves = curvesById;
+        if (skillId >= 0 && skillId < curves.length && curves[skillId] != null) {
+            return curves[skillId];
+        }
+        if (skillId < 0) {
+            return defaultCurve;
+        }
+
+        String name = OrbisSkills.getInstance().getSkillManager().getSkillName(skillId);
+        LevelCurve curve = name != null ? getCurve(name) : defaultCurve;
+        cacheCurve(curves, skillId, curve);
+        return curve;
+    }
+
+    
+
+    private static synchronized void cacheCurve(LevelCurve[] read, int skillId, LevelCurve curve) {
+        if (curvesById != read) {
+            return;
+        }
+
+        LevelCurve[] curves = Arrays.copyOf(read, Math.max(read.length, skillId + 1));
+        curves[skillId] = curve;
+        curvesById = curves;
+    }
+
+    
+
+    public static double calculateExp(String skillName, double baseExp, int level, double multiplier) {
+        ExpFormula formula = skillFormulas.get(skillName.toLowerCase());
+        if (formula == null) {
+            formula = defaultFormula;
+        }
+
+        double exp = formula.evaluate(baseExp, level, multiplier);
+        return Double.isFinite(exp) ? exp : baseExp * multiplier;
+    }
+
+    
+
+    public static void loadFormulas(ConfigurationSection config, Logger logger) {
+        if (config == null) {
+            config = new MemoryConfiguration();
+        }
+
+        ExpFormula loadedDefault = compileOrDefault(config.getString("formula", DEFAULT_FORMULA), "experience.formula",
+                ExpFormula.compile(DEFAULT_FORMULA), logger);
+
+        Map<String, ExpFormula> loadedSkills = new HashMap<>();
+        ConfigurationSection skillsSection = config.getConfigurationSection("formulas");
+        if (skillsSection != null) {
+            for (String skill : skillsSection.getKeys(false)) {
+                String path = "experience.formulas." + skill;
+                loadedSkills.put(skill.toLowerCase(), compileOrDefault(skillsSection.getString(skill, ""), path, loadedDefault, logger));
+            }
+        }
+
+        defaultFormula = loadedDefault;
+        skillFormulas = loadedSkills;
+    }
+
+    private static ExpFormula compileOrDefault(String source, String path, ExpFormula fallback, Logger logger) {
+        try {
+            return ExpFormula.compile(source);
+        } catch (IllegalArgumentException e) {
+            logger.severe("Invalid exp formula at " + path + ": " + e.getMessage());
+            logger.severe("Using the default formula: " + fallback.getSource());
+            return fallback;
+        }
+    }
+
+    
+
+    public static double getTotalExpToLevel(int level) {
+        return defaultCurve.getTotalExpToLevel(level);
+    }
+
+    
+
+    public static int getLevelForExp(double totalExp) {
+        return defaultCurve.getLevelForExp(totalExp);
+    }
+
+    
+
+    public static void loadLevelCurves(ConfigurationSection config, int maxLevel, Logger logger) {
+        if (config == null) {
+            config = new MemoryConfiguration();
+        }
+
+        LevelCurve loadedDefault = LevelCurve.linear(maxLevel);
+        ConfigurationSection defaultSection = config.getConfigurationSection("default");
+        if (defaultSection != null) {
+            loadedDefault = buildOrDefault(defaultSection, maxLevel, loadedDefault, "leveling.default", logger);
+        }
+
+        Map<String, LevelCurve> loadedSkills = new HashMap<>();
+        ConfigurationSection skillsSection = config.getConfigurationSection("skills");
+        if (skillsSection != null) {
+            for (String skill : skillsSection.getKeys(false)) {
+                ConfigurationSection section = skillsSection.getConfigurationSection(skill);
+                if (section != null) {
+                    loadedSkills.put(skill.toLowerCase(),
+                            buildOrDefault(section, maxLevel, loadedDefault, "leveling.skills." + skill, logger));
+                }
+            }
+        }
+
+        synchronized (ExperienceUtil.class) {
+            defaultCurve = loadedDefault;
+            skillCurves = loadedSkills;
+            curvesById = new LevelCurve[0];
+        }
+    }
+
+    private static LevelCurve buildOrDefault(ConfigurationSection section, int maxLevel, LevelCurve fallback,
+                                             String path, Logger logger) {
+        try {
+            return LevelCurve.fromConfig(section, maxLevel);
+        } catch (IllegalArgumentException e) {
+            logger.severe("Invalid level curve at " + path + ": " + e.getMessage());
+            return fallback;
+        }
+    }
+
+    
+
+    public static String formatExp(double exp) {
+        if (exp >= 1000000) {
+            return String.format("%.2fM", exp / 1000000);
+        } else if (exp >= 1000) {
+            return String.format("%.2fK", exp / 1000);
+        } else {
+            return String.format("%.1f", exp);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.orbis.skills.util;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.List;
+
+
+
+public final class LevelCurve {
+
+   
+
+    private final double[] cumulative;
+    private final int maxLevel;
+
+    private LevelCurve(double[] cumulative) {
+        this.cumulative = cumulative;
+        this.maxLevel = cumulative.length - 1;
+    }
+
+    
+
+    public static LevelCurve fromConfig(ConfigurationSection config, int defaultMaxLevel) {
+        int maxLevel = Math.max(1, config.getInt("max-level", defaultMaxLevel));
+        String type = config.getString("type", "linear").toLowerCase();
+
+        double[] costs = new double[maxLevel];
+        switch (type) {
+            case "linear": {
+                double base = config.getDouble("base", 100);
+                double increment = config.getDouble("increment", 10);
+                for (int level = 0; level < maxLevel; level++) {
+                    costs[level] = base + increment * level;
+                }
+                break;
+            }
+            case "polynomial": {
+                double base = config.getDouble("base", 100);
+                double factor = config.getDouble("factor", 1);
+                double exponent = config.getDouble("exponent", 2);
+                for (int level = 0; level < maxLevel; level++) {
+                    costs[level] = base + factor * Math.pow(level, exponent);
+                }
+                break;
+            }
+            case "exponential": {
+                double base = config.getDouble("base", 100);
+                double growth = config.getDouble("growth", 1.1);
+                for (int level = 0; level < maxLevel; level++) {
+                    costs[level] = base * Math.pow(growth, level);
+                }
+                break;
+            }
+            case "table": {
+                List<Double> table = config.getDoubleList("levels");
+                if (table.isEmpty()) {
+                    throw new IllegalArgumentException("Table curve has no levels");
+                }
+                for (int level = 0; level < maxLevel; level++) {
+                    costs[level] = table.get(Math.min(level, table.size() - 1));
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown curve type '" + type + "'");
+        }
+
+        return fromCosts(costs);
+    }
+
+    
+
+    public static LevelCurve linear(int maxLevel) {
+        double[] costs = new double[Math.max(1, maxLevel)];
+        for (int level = 0; level < costs.length; level++) {
+            costs[level] = 100 * (1 + (level * 0.1));
+        }
+        return fromCosts(costs);
+    }
+
+    private static LevelCurve fromCosts(double[] costs) {
+        double[] cumulative = new double[costs.length + 1];
+        for (int level = 0; level < costs.length; level++) {
+            if (!(costs[level] > 0) || Double.isInfinite(costs[level])) {
+                throw new IllegalArgumentException("Level " + level + " must cost a positive, finite amount of experience");
+            }
+            cumulative[level + 1] = cumulative[level] + costs[level];
+        }
+        return new LevelCurve(cumulative);
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    
+
+    public double getExpToNextLevel(int level) {
+        if (level < 0) {
+            level = 0;
+        }
+        if (level >= maxLevel) {
+            return 0;
+        }
+        return cumulative[level + 1] - cumulative[level];
+    }
+
+    
+
+    public double getTotalExpToLevel(int level) {
+        return cumulative[Math.max(0, Math.min(level, maxLevel))];
+    }
+
+    
+
+    public int getLevelForExp(double totalExp) {
+        int low = 0;
+        int high = maxLevel;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (cumulative[middle] <= totalExp) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,247 @@
+package com.orbis.skills.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+
+public class RankedIndex {
+
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private Node root;
+
+    
+
+    public synchronized void update(UUID uuid, int primary, double secondary) {
+        Node node = nodes.get(uuid);
+        if (node == null) {
+            node = new Node(uuid, ThreadLocalRandom.current().nextInt());
+            nodes.put(uuid, node);
+        } else if (node.primary == primary && node.secondary == secondary) {
+            return;
+        } else {
+            root = delete(root, node);
+        }
+
+       
+
+        node.primary = primary;
+        node.secondary = secondary;
+        node.left = null;
+        node.right = null;
+        node.size = 1;
+        root = insert(root, node);
+    }
+
+    
+
+    public synchronized void remove(UUID uuid) {
+        Node node = nodes.remove(uuid);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    
+
+    public synchronized int getPosition(UUID uuid) {
+        Node target = nodes.get(uuid);
+        if (target == null) {
+            return 0;
+        }
+
+        int position = 0;
+        Node node = root;
+        while (node != null) {
+            int compare = compare(target, node);
+            if (compare < 0) {
+                node = node.left;
+            } else {
+                position += size(node.left) + 1;
+                if (compare == 0) {
+                    return position;
+                }
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    
+
+    public synchronized Entry get(int position) {
+        if (position < 1 || position > size(root)) {
+            return null;
+        }
+
+        int remaining = position;
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (remaining <= leftSize) {
+                node = node.left;
+            } else if (remaining == leftSize + 1) {
+                return new Entry(node.uuid, node.primary, node.secondary);
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    public synchronized void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    private Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+
+        if (node.priority > tree.priority) {
+            Node[] parts = split(tree, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            resize(node);
+            return node;
+        }
+
+        if (compare(node, tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        resize(tree);
+        return tree;
+    }
+
+    private Node delete(Node tree, Node node) {
+        if (tree == null) {
+            return null;
+        }
+
+        int compare = compare(node, tree);
+        if (compare == 0) {
+            return merge(tree.left, tree.right);
+        }
+
+        if (compare < 0) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+        resize(tree);
+        return tree;
+    }
+
+    
+
+    private Node[] split(Node tree, Node key) {
+        if (tree == null) {
+            return new Node[]{null, null};
+        }
+
+        if (compare(tree, key) < 0) {
+            Node[] parts = split(tree.right, key);
+            tree.right = parts[0];
+            resize(tree);
+            parts[0] = tree;
+            return parts;
+        }
+
+        Node[] parts = split(tree.left, key);
+        tree.left = parts[1];
+        resize(tree);
+        parts[1] = tree;
+        return parts;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            resize(left);
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        resize(right);
+        return right;
+    }
+
+    
+
+    private static int compare(Node a, Node b) {
+        if (a.primary != b.primary) {
+            return a.primary > b.primary ? -1 : 1;
+        }
+        int compare = Double.compare(b.secondary, a.secondary);
+        if (compare != 0) {
+            return compare;
+        }
+        return a.uuid.compareTo(b.uuid);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void resize(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static class Node {
+        private final UUID uuid;
+        private final int priority;
+        private int primary;
+        private double secondary;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(UUID uuid, int priority) {
+            this.uuid = uuid;
+            this.priority = priority;
+        }
+    }
+
+    
+
+    public static class Entry {
+        private final UUID uuid;
+        private final int primary;
+        private final double secondary;
+
+        public Entry(UUID uuid, int primary, double secondary) {
+            this.uuid = uuid;
+            this.primary = primary;
+            this.secondary = secondary;
+        }
+
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        public int getPrimary() {
+            return primary;
+        }
+
+        public double getSecondary() {
+            return secondary;
+        }
+    }
+}
\ No newline at end of file
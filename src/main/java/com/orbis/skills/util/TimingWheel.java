@@ -0,0 +1,108 @@
+package com.orbis.skills.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+
+public final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long RANGE = 1L << (BITS * LEVELS);
+
+    private final List<Entry<T>>[][] buckets;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTick) {
+        this.buckets = new List[LEVELS][SIZE];
+        this.currentTick = startTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    
+
+    public void schedule(long deadline, T item) {
+        insert(new Entry<>(deadline, item));
+        size++;
+    }
+
+    
+
+    public void advance(long toTick, Consumer<T> expired) {
+        while (currentTick <= toTick) {
+            long tick = currentTick;
+
+           
+
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) ((tick >>> (BITS * level)) & MASK));
+                }
+            }
+
+            List<Entry<T>> bucket = buckets[0][(int) (tick & MASK)];
+            buckets[0][(int) (tick & MASK)] = null;
+            currentTick++;
+
+            if (bucket != null) {
+                size -= bucket.size();
+                for (Entry<T> entry : bucket) {
+                    expired.accept(entry.item);
+                }
+            }
+        }
+    }
+
+    private void cascade(int level, int index) {
+        List<Entry<T>> bucket = buckets[level][index];
+        if (bucket == null) {
+            return;
+        }
+
+        buckets[level][index] = null;
+        for (Entry<T> entry : bucket) {
+            insert(entry);
+        }
+    }
+
+    private void insert(Entry<T> entry) {
+        long deadline = Math.max(entry.deadline, currentTick);
+        long delta = deadline - currentTick;
+        if (delta >= RANGE) {
+            deadline = currentTick + RANGE - 1;
+            delta = RANGE - 1;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+
+        int index = (int) ((deadline >>> (BITS * level)) & MASK);
+        List<Entry<T>> bucket = buckets[level][index];
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets[level][index] = bucket;
+        }
+        bucket.add(entry);
+    }
+
+    private static final class Entry<T> {
+        private final long deadline;
+        private final T item;
+
+        private Entry(long deadline, T item) {
+            this.deadline = deadline;
+            this.item = item;
+        }
+    }
+}
\ No newline at end of file